@@ -0,0 +1,86 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtFilter 에서 지불하는 인증 비용을 측정한다.
+ * ./gradlew jmh -Pjmh.includes=AuthFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthFilterBenchmark {
+
+    static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private RouteAccessTable routeAccessTable;
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest publicRequest;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+
+        routeAccessTable = compiledRouteTable();
+        jwtFilter = new JwtFilter(jwtUtil, new RoleVersionRegistry(), routeAccessTable, new ErrorResponseCache(new ObjectMapper()));
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/todos/1/comments");
+        authenticatedRequest.addHeader("Authorization", jwtUtil.createToken(1L, "user@example.com", UserRole.USER, 0));
+        publicRequest = new MockHttpServletRequest("POST", "/auth/signin");
+        response = new MockHttpServletResponse();
+        chain = (request, response) -> blackhole.consume(request);
+    }
+
+    static RouteAccessTable compiledRouteTable() {
+        RouteAccessTable table = new RouteAccessTable(null);
+        table.register("/auth/signup", Set.of(RequestMethod.POST), AccessLevel.PUBLIC);
+        table.register("/auth/signin", Set.of(RequestMethod.POST), AccessLevel.PUBLIC);
+        table.register("/todos", Set.of(RequestMethod.GET, RequestMethod.POST), AccessLevel.AUTHENTICATED);
+        table.register("/todos/{todoId}", Set.of(RequestMethod.GET), AccessLevel.AUTHENTICATED);
+        table.register("/todos/{todoId}/comments", Set.of(RequestMethod.GET, RequestMethod.POST), AccessLevel.AUTHENTICATED);
+        table.register("/todos/{todoId}/managers", Set.of(RequestMethod.GET, RequestMethod.POST), AccessLevel.AUTHENTICATED);
+        table.register("/todos/{todoId}/managers/{managerId}", Set.of(RequestMethod.DELETE), AccessLevel.AUTHENTICATED);
+        table.register("/users/{userId}", Set.of(RequestMethod.GET), AccessLevel.AUTHENTICATED);
+        table.register("/users", Set.of(RequestMethod.PUT), AccessLevel.AUTHENTICATED);
+        table.register("/admin/users/{userId}", Set.of(RequestMethod.PATCH), AccessLevel.ADMIN);
+        table.register("/admin/comments/{commentId}", Set.of(RequestMethod.DELETE), AccessLevel.ADMIN);
+        return table;
+    }
+
+    @Benchmark
+    public AccessLevel routeLookup() {
+        return routeAccessTable.resolve("DELETE", "/todos/1/managers/2");
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("user");
+    }
+
+    @Benchmark
+    public void doFilterAuthenticated() throws Exception {
+        jwtFilter.doFilter(authenticatedRequest, response, chain);
+    }
+
+    @Benchmark
+    public void doFilterPublic() throws Exception {
+        jwtFilter.doFilter(publicRequest, response, chain);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입마다 지불하는 토큰 발급 비용과, 인증이 필요한 요청마다 지불하는 토큰 검증 비용을 측정한다.
+ * ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String bearerToken;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", AuthFilterBenchmark.SECRET_KEY);
+        jwtUtil.init();
+
+        bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.USER, 0);
+        token = jwtUtil.substringToken(bearerToken);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER, 0);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims substringAndExtractClaims() {
+        return jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+    }
+}
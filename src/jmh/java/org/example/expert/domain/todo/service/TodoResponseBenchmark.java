@@ -0,0 +1,94 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos 한 페이지를 만드는 비용: TodoService 의 entity -> TodoResponse 변환과
+ * 응답 본문(PagedModel, @EnableSpringDataWebSupport VIA_DTO)의 Jackson 직렬화를 나눠서 측정한다.
+ * repository 는 미리 만든 페이지를 돌려주므로 DB 비용은 포함되지 않는다.
+ * ./gradlew jmh -Pjmh.includes=TodoResponseBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoResponseBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private TodoService todoService;
+    private ObjectMapper objectMapper;
+    private PagedModel<TodoResponse> mappedPage;
+
+    @Setup
+    public void setUp() {
+        Page<Todo> todos = todoPage(size);
+        TodoRepository todoRepository = (TodoRepository) Proxy.newProxyInstance(
+                TodoRepository.class.getClassLoader(),
+                new Class<?>[]{TodoRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllByOrderByModifiedAtDesc")) {
+                        return todos;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        // getTodos 는 날씨 API 와 캐시 변경 로그를 쓰지 않는다.
+        todoService = new TodoService(todoRepository, null, null);
+
+        // Spring Boot 의 기본 설정과 같이 날짜를 ISO 문자열로 쓴다.
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        mappedPage = new PagedModel<>(todoService.getTodos(1, size));
+    }
+
+    @Benchmark
+    public Page<TodoResponse> map() {
+        return todoService.getTodos(1, size);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(mappedPage);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(new PagedModel<>(todoService.getTodos(1, size)));
+    }
+
+    private static Page<Todo> todoPage(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Todo> content = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            User user = new User("user" + i + "@example.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", i);
+
+            Todo todo = new Todo("title " + i, "contents " + i, "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", i);
+            ReflectionTestUtils.setField(todo, "createdAt", now);
+            ReflectionTestUtils.setField(todo, "modifiedAt", now);
+            content.add(todo);
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size), 1_000_000);
+    }
+}
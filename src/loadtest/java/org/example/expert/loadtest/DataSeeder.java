@@ -0,0 +1,196 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.config.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 데이터를 JDBC batch insert 로 채운다.
+ * 스키마는 애플리케이션(ddl-auto=update)이 만든 것을 그대로 사용하고, 기존 데이터 뒤에 id 를 이어 붙인 뒤 identity 를 다시 맞춘다.
+ * 모든 유저의 비밀번호는 LoadTestRunner 가 로그인에 쓰는 PASSWORD 이고,
+ * 새로 만든 id 범위는 LoadTestRunner 가 읽을 수 있도록 output-dir 의 seed.properties 에 남긴다.
+ */
+public class DataSeeder {
+
+    static final String PASSWORD = "Password1";
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+
+    private final Connection connection;
+    private final int batchSize;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    DataSeeder(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+    }
+
+    static final String SEED_FILE = "seed.properties";
+
+    public static void main(String[] args) throws SQLException, IOException {
+        String jdbcUrl = LoadTestProperties.string("jdbc-url", "jdbc:h2:file:./build/loadtest/expert;AUTO_SERVER=TRUE");
+        long users = LoadTestProperties.longValue("users", 100_000);
+        long todos = LoadTestProperties.longValue("todos", 1_000_000);
+        long comments = LoadTestProperties.longValue("comments", 10_000_000);
+        int batchSize = LoadTestProperties.integer("batch-size", 5_000);
+        Path outputDir = Path.of(LoadTestProperties.string("output-dir", "build/loadtest"));
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+            connection.setAutoCommit(false);
+            DataSeeder seeder = new DataSeeder(connection, batchSize);
+            long startedAt = System.nanoTime();
+
+            long[] userIds = seeder.seedUsers(users);
+            long[] todoIds = seeder.seedTodosAndManagers(todos, userIds);
+            seeder.seedComments(comments, userIds, todoIds);
+
+            Properties ranges = new Properties();
+            ranges.setProperty("users.first", String.valueOf(userIds[0]));
+            ranges.setProperty("users.last", String.valueOf(userIds[1]));
+            ranges.setProperty("todos.first", String.valueOf(todoIds[0]));
+            ranges.setProperty("todos.last", String.valueOf(todoIds[1]));
+            Files.createDirectories(outputDir);
+            try (Writer writer = Files.newBufferedWriter(outputDir.resolve(SEED_FILE))) {
+                ranges.store(writer, "DataSeeder id ranges");
+            }
+
+            System.out.printf("seed 완료: %.1fs%n", (System.nanoTime() - startedAt) / 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * @return 새로 만든 유저 id 범위 [first, last]
+     */
+    long[] seedUsers(long count) throws SQLException {
+        long first = nextId("users");
+        if (count <= 0) {
+            return new long[]{1, first - 1};
+        }
+        String password = new PasswordEncoder().encode(PASSWORD);
+        String sql = "INSERT INTO users (id, email, password, user_role, role_version, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, 0, ?, ?)";
+        insert("users", sql, first, count, (ps, id) -> {
+            Timestamp createdAt = randomTimestamp();
+            ps.setLong(1, id);
+            ps.setString(2, emailOf(id));
+            ps.setString(3, password);
+            ps.setString(4, "USER");
+            ps.setTimestamp(5, createdAt);
+            ps.setTimestamp(6, createdAt);
+        });
+        return new long[]{first, first + count - 1};
+    }
+
+    /**
+     * 할일마다 작성자를 담당자로 등록하는 애플리케이션 동작과 맞추기 위해 managers 도 함께 채운다.
+     */
+    long[] seedTodosAndManagers(long count, long[] userIds) throws SQLException {
+        long first = nextId("todos");
+        if (count <= 0) {
+            return new long[]{1, first - 1};
+        }
+        String sql = "INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        long[] owners = new long[(int) Math.min(count, Integer.MAX_VALUE)];
+        insert("todos", sql, first, count, (ps, id) -> {
+            long userId = randomBetween(userIds);
+            owners[(int) (id - first)] = userId;
+            Timestamp createdAt = randomTimestamp();
+            ps.setLong(1, id);
+            ps.setString(2, "title " + id);
+            ps.setString(3, "contents " + id);
+            ps.setString(4, WEATHERS[(int) (id % WEATHERS.length)]);
+            ps.setLong(5, userId);
+            ps.setTimestamp(6, createdAt);
+            ps.setTimestamp(7, createdAt);
+        });
+
+        long firstManager = nextId("managers");
+        insert("managers", "INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", firstManager, count, (ps, id) -> {
+            long index = id - firstManager;
+            ps.setLong(1, id);
+            ps.setLong(2, owners[(int) index]);
+            ps.setLong(3, first + index);
+        });
+        return new long[]{first, first + count - 1};
+    }
+
+    void seedComments(long count, long[] userIds, long[] todoIds) throws SQLException {
+        long first = nextId("comments");
+        String sql = "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+        insert("comments", sql, first, count, (ps, id) -> {
+            Timestamp createdAt = randomTimestamp();
+            ps.setLong(1, id);
+            ps.setString(2, "comment " + id);
+            ps.setLong(3, randomBetween(userIds));
+            ps.setLong(4, randomBetween(todoIds));
+            ps.setTimestamp(5, createdAt);
+            ps.setTimestamp(6, createdAt);
+        });
+    }
+
+    static String emailOf(long userId) {
+        return "loadtest-" + userId + "@example.com";
+    }
+
+    private void insert(String table, String sql, long firstId, long count, RowBinder binder) throws SQLException {
+        if (count <= 0) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long i = 0; i < count; i++) {
+                binder.bind(ps, firstId + i);
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0 || i + 1 == count) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+                if ((i + 1) % 1_000_000 == 0) {
+                    System.out.printf("  %s: %,d / %,d%n", table, i + 1, count);
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            // 명시적으로 넣은 id 뒤에서 애플리케이션의 IDENTITY 가 이어지도록 한다.
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (firstId + count));
+        }
+        connection.commit();
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        System.out.printf("%s: %,d rows, %.1fs (%,.0f rows/s)%n", table, count, seconds, count / seconds);
+    }
+
+    private long nextId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static long randomBetween(long[] range) {
+        return ThreadLocalRandom.current().nextLong(range[0], range[1] + 1);
+    }
+
+    private Timestamp randomTimestamp() {
+        return Timestamp.valueOf(now.minusSeconds(ThreadLocalRandom.current().nextLong(365L * 24 * 3600)));
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, long id) throws SQLException;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.loadtest;
+
+/**
+ * gradle 에서 -Ploadtest.xxx 로 넘긴 값을 system property 로 읽는다.
+ */
+final class LoadTestProperties {
+
+    private LoadTestProperties() {
+    }
+
+    static String string(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    static int integer(String name, int defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+
+    static long longValue(String name, long defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Long.parseLong(value.replace("_", ""));
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.loadtest;
+
+import java.util.List;
+
+record LoadTestReport(String label, int concurrency, int durationSeconds, long weatherDelayMs,
+                      List<ScenarioResult> results) {
+
+    ScenarioResult result(String scenario) {
+        for (ScenarioResult result : results) {
+            if (result.scenario().equals(scenario)) {
+                return result;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 애플리케이션에 시나리오별로 closed-loop 부하를 보내고 처리량과 지연 시간 백분위를 출력한다.
+ * 동시 사용자 수(concurrency)만큼의 virtual thread 가 응답을 받는 즉시 다음 요청을 보내며,
+ * 시나리오마다 warmup 구간은 버리고 duration 동안만 측정한다.
+ */
+public class LoadTestRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String DEFAULT_SCENARIOS = "signin,todo-list,todo-detail,comment-list,comment-write,todo-create,mixed";
+    private static final String ROW_FORMAT = "%-14s %10s %8s %10s %9s %9s %9s %9s %9s%n";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String baseUrl = LoadTestProperties.string("base-url", "http://localhost:8080");
+        int concurrency = LoadTestProperties.integer("concurrency", 64);
+        int durationSeconds = LoadTestProperties.integer("duration-seconds", 30);
+        int warmupSeconds = LoadTestProperties.integer("warmup-seconds", 5);
+        int tokenCount = LoadTestProperties.integer("tokens", 200);
+        String label = LoadTestProperties.string("label", "run");
+        Path outputDir = Path.of(LoadTestProperties.string("output-dir", "build/loadtest"));
+        int weatherPort = LoadTestProperties.integer("weather.port", 18090);
+        long weatherDelayMs = LoadTestProperties.longValue("weather.delay-ms", 0);
+        String compareWith = LoadTestProperties.string("compare-with", null);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Target target = readSeedRanges(baseUrl, outputDir);
+
+        try (WeatherStubServer weatherStub = new WeatherStubServer(weatherPort, weatherDelayMs)) {
+            weatherStub.start();
+            target = target.withTokens(signin(client, target, tokenCount));
+
+            System.out.printf("%s: concurrency=%d, duration=%ds, warmup=%ds, weather delay=%dms%n",
+                    label, concurrency, durationSeconds, warmupSeconds, weatherDelayMs);
+            System.out.printf(ROW_FORMAT, "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (String name : LoadTestProperties.string("scenarios", DEFAULT_SCENARIOS).split(",")) {
+                Scenario scenario = Scenario.of(name.trim());
+                run(client, target, scenario, concurrency, warmupSeconds);
+                ScenarioResult result = run(client, target, scenario, concurrency, durationSeconds);
+                results.add(result);
+                printRow(result);
+            }
+
+            LoadTestReport report = new LoadTestReport(label, concurrency, durationSeconds, weatherDelayMs, results);
+            Path output = outputDir.resolve(label + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+            Files.createDirectories(outputDir);
+            OBJECT_MAPPER.writeValue(output.toFile(), report);
+            System.out.println("결과: " + output);
+
+            if (compareWith != null) {
+                compare(OBJECT_MAPPER.readValue(Path.of(compareWith).toFile(), LoadTestReport.class), report);
+            }
+        }
+    }
+
+    static ScenarioResult run(HttpClient client, Target target, Scenario scenario, int concurrency, int seconds) {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = scenario.request().apply(target);
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        latency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                    }
+                });
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return new ScenarioResult(
+                scenario.name(),
+                latency.count(),
+                errors.sum(),
+                elapsedSeconds,
+                latency.count() / elapsedSeconds,
+                latency.percentileMicros(0.5) / 1000.0,
+                latency.percentileMicros(0.9) / 1000.0,
+                latency.percentileMicros(0.99) / 1000.0,
+                latency.percentileMicros(0.999) / 1000.0,
+                latency.maxMicros() / 1000.0
+        );
+    }
+
+    private static Target readSeedRanges(String baseUrl, Path outputDir) throws IOException {
+        Path seedFile = outputDir.resolve(DataSeeder.SEED_FILE);
+        if (!Files.exists(seedFile)) {
+            throw new IllegalStateException(seedFile + " 가 없습니다. loadtestSeed 를 먼저 실행하세요.");
+        }
+        Properties ranges = new Properties();
+        try (Reader reader = Files.newBufferedReader(seedFile)) {
+            ranges.load(reader);
+        }
+        return new Target(baseUrl, Duration.ofSeconds(LoadTestProperties.integer("request-timeout-seconds", 30)),
+                Long.parseLong(ranges.getProperty("users.first")), Long.parseLong(ranges.getProperty("users.last")),
+                Long.parseLong(ranges.getProperty("todos.first")), Long.parseLong(ranges.getProperty("todos.last")),
+                List.of());
+    }
+
+    private static List<String> signin(HttpClient client, Target target, int count) throws IOException, InterruptedException {
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String body = "{\"email\":\"" + DataSeeder.emailOf(target.randomUserId()) + "\",\"password\":\"" + DataSeeder.PASSWORD + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(target.baseUrl() + "/auth/signin"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("로그인 실패 (" + response.statusCode() + "): " + response.body());
+            }
+            tokens.add(OBJECT_MAPPER.readTree(response.body()).get("bearerToken").asText());
+        }
+        return tokens;
+    }
+
+    private static void printRow(ScenarioResult result) {
+        System.out.printf(ROW_FORMAT,
+                result.scenario(),
+                String.format("%,d", result.requests()),
+                String.format("%,d", result.errors()),
+                String.format("%,.1f", result.throughput()),
+                String.format("%.2f", result.p50Ms()),
+                String.format("%.2f", result.p90Ms()),
+                String.format("%.2f", result.p99Ms()),
+                String.format("%.2f", result.p999Ms()),
+                String.format("%.2f", result.maxMs()));
+    }
+
+    private static void compare(LoadTestReport baseline, LoadTestReport current) {
+        System.out.printf("%n%s 대비 %s%n", baseline.label(), current.label());
+        System.out.printf("%-14s %12s %12s %12s%n", "scenario", "req/s", "p50", "p99");
+        for (ScenarioResult result : current.results()) {
+            ScenarioResult before = baseline.result(result.scenario());
+            if (before == null) {
+                continue;
+            }
+            System.out.printf("%-14s %12s %12s %12s%n", result.scenario(),
+                    change(before.throughput(), result.throughput()),
+                    change(before.p50Ms(), result.p50Ms()),
+                    change(before.p99Ms(), result.p99Ms()));
+        }
+    }
+
+    private static String change(double before, double after) {
+        return before == 0 ? "-" : String.format("%+.1f%%", (after - before) / before * 100);
+    }
+}
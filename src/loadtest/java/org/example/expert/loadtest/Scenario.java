@@ -0,0 +1,98 @@
+package org.example.expert.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 부하 테스트 시나리오. 요청마다 seed 범위 안에서 무작위 유저와 할일을 고른다.
+ */
+record Scenario(String name, Function<Target, HttpRequest> request) {
+
+    static final List<Scenario> ALL = List.of(
+            new Scenario("signin", Scenario::signin),
+            new Scenario("todo-list", Scenario::todoList),
+            new Scenario("todo-detail", Scenario::todoDetail),
+            new Scenario("comment-list", Scenario::commentList),
+            new Scenario("comment-write", Scenario::commentWrite),
+            new Scenario("todo-create", Scenario::todoCreate),
+            new Scenario("mixed", Scenario::mixed)
+    );
+
+    static Scenario of(String name) {
+        for (Scenario scenario : ALL) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오: " + name);
+    }
+
+    /**
+     * 읽기 위주의 실제 트래픽 비율을 흉내 낸다. (상세 40, 목록 30, 댓글 목록 15, 댓글 작성 10, 로그인 5)
+     */
+    private static HttpRequest mixed(Target target) {
+        int dice = ThreadLocalRandom.current().nextInt(100);
+        if (dice < 40) {
+            return todoDetail(target);
+        }
+        if (dice < 70) {
+            return todoList(target);
+        }
+        if (dice < 85) {
+            return commentList(target);
+        }
+        if (dice < 95) {
+            return commentWrite(target);
+        }
+        return signin(target);
+    }
+
+    private static HttpRequest signin(Target target) {
+        String body = "{\"email\":\"" + DataSeeder.emailOf(target.randomUserId()) + "\",\"password\":\"" + DataSeeder.PASSWORD + "\"}";
+        return json(target, "/auth/signin").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private static HttpRequest todoList(Target target) {
+        // offset 페이지네이션이므로 앞쪽 페이지 위주로 조회한다.
+        int page = ThreadLocalRandom.current().nextInt(1, 101);
+        return authorized(target, "/todos?page=" + page + "&size=10").GET().build();
+    }
+
+    private static HttpRequest todoDetail(Target target) {
+        return authorized(target, "/todos/" + target.randomTodoId()).GET().build();
+    }
+
+    private static HttpRequest commentList(Target target) {
+        return authorized(target, "/todos/" + target.randomTodoId() + "/comments").GET().build();
+    }
+
+    private static HttpRequest commentWrite(Target target) {
+        return authorized(target, "/todos/" + target.randomTodoId() + "/comments")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"contents\":\"load test comment\"}"))
+                .build();
+    }
+
+    // WeatherClient 를 거치므로 날씨 stub 의 지연이 그대로 요청 시간에 더해진다.
+    private static HttpRequest todoCreate(Target target) {
+        return authorized(target, "/todos")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"load test\",\"contents\":\"load test\"}"))
+                .build();
+    }
+
+    private static HttpRequest.Builder json(Target target, String path) {
+        return HttpRequest.newBuilder(URI.create(target.baseUrl() + path))
+                .timeout(target.requestTimeout())
+                .header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.Builder authorized(Target target, String path) {
+        return HttpRequest.newBuilder(URI.create(target.baseUrl() + path))
+                .timeout(target.requestTimeout())
+                .header("Authorization", target.randomToken());
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.loadtest;
+
+/**
+ * 시나리오 하나의 측정 결과. JSON 으로 저장해 다른 빌드의 결과와 비교한다.
+ */
+record ScenarioResult(String scenario, long requests, long errors, double seconds, double throughput,
+                      double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+}
@@ -0,0 +1,28 @@
+package org.example.expert.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하를 보낼 애플리케이션 주소와 seed 된 id 범위, 미리 발급받은 토큰.
+ */
+record Target(String baseUrl, Duration requestTimeout, long firstUserId, long lastUserId,
+              long firstTodoId, long lastTodoId, List<String> tokens) {
+
+    long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(firstUserId, lastUserId + 1);
+    }
+
+    long randomTodoId() {
+        return ThreadLocalRandom.current().nextLong(firstTodoId, lastTodoId + 1);
+    }
+
+    String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    Target withTokens(List<String> tokens) {
+        return new Target(baseUrl, requestTimeout, firstUserId, lastUserId, firstTodoId, lastTodoId, tokens);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 날씨 API (/f-api/weather.json) 대신 응답하는 로컬 stub.
+ * 1년 치 날짜를 모두 담아 언제 실행해도 오늘 날씨를 찾을 수 있고, delay-ms 로 외부 API 의 지연을 흉내 낸다.
+ */
+public class WeatherStubServer implements AutoCloseable {
+
+    static final String PATH = "/f-api/weather.json";
+
+    private final HttpServer server;
+
+    public WeatherStubServer(int port, long delayMillis) throws IOException {
+        byte[] body = weatherJson();
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(PATH, exchange -> {
+            try (exchange) {
+                if (delayMillis > 0) {
+                    sleep(delayMillis);
+                }
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static byte[] weatherJson() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringBuilder json = new StringBuilder("[");
+        // 윤년을 기준으로 2월 29일까지 포함한다.
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        while (date.getYear() == 2024) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(date.format(formatter)).append("\",\"weather\":\"Sunny\"}");
+            date = date.plusDays(1);
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
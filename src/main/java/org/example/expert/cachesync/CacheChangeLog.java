@@ -0,0 +1,53 @@
+package org.example.expert.cachesync;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 엔티티 변경을 cache_change_log 에 남긴다. 엔티티를 바꾸는 트랜잭션 안에서 호출해야
+ * 변경이 커밋될 때만, 그리고 반드시 함께 기록된다. 다른 노드는 CacheChangePoller 로 이 기록을 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheChangeLog {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_change_log (cache_name, entity_key, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void record(CacheName cacheName, long key) {
+        checkTransaction();
+        jdbcTemplate.update(INSERT_SQL, cacheName.name(), key, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 여러 key 를 JDBC batch 한 번으로 기록한다.
+     */
+    public void recordAll(CacheName cacheName, Collection<Long> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        checkTransaction();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        for (Long key : keys) {
+            rows.add(new Object[]{cacheName.name(), key, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private static void checkTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("캐시 변경 로그는 엔티티를 바꾸는 트랜잭션 안에서 기록해야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.expert.cachesync;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * cache_change_log 를 마지막으로 읽은 id 이후부터 주기적으로 읽어, 바뀐 엔티티를 로컬 캐시(CacheInvalidator)에서 지운다.
+ * 외부 메시지 브로커 없이 노드 간 캐시를 맞추기 위한 것으로, 조회는 primary key 범위 탐색 한 번이다.
+ *
+ * IDENTITY id 는 insert 순서로 정해지지만 커밋은 순서대로 끝나지 않으므로, 더 큰 id 를 읽은 뒤에
+ * 작은 id 의 트랜잭션이 커밋될 수 있다. 건너뛴 id 는 gap 으로 기억해 두고 gap-timeout 동안 다시 조회한다.
+ * 롤백된 insert 도 id 를 소비하므로 gap 중 일부는 끝내 채워지지 않고 시간이 지나면 버려진다.
+ * 이 노드가 기록한 변경도 다시 읽지만, 캐시에서 한 번 더 지울 뿐이다.
+ */
+@Slf4j
+@Component
+public class CacheChangePoller {
+
+    private static final String SELECT_MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM cache_change_log";
+    private static final String SELECT_AFTER_SQL =
+            "SELECT id, cache_name, entity_key FROM cache_change_log WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_IN_SQL = "SELECT id, cache_name, entity_key FROM cache_change_log WHERE id IN (%s)";
+    private static final String DELETE_BEFORE_SQL = "DELETE FROM cache_change_log WHERE created_at < ?";
+
+    private static final RowMapper<Change> CHANGE_MAPPER =
+            (rs, rowNum) -> new Change(rs.getLong("id"), rs.getString("cache_name"), rs.getLong("entity_key"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<CacheName, List<CacheInvalidator>> invalidators = new EnumMap<>(CacheName.class);
+    private final int batchSize;
+    private final int maxGaps;
+    private final long gapTimeoutNanos;
+    private final long retentionMs;
+
+    // @Scheduled 가 virtual thread 에서 실행될 수 있으므로, JDBC 조회를 감싸는 잠금은 carrier thread 를 붙잡는 synchronized 대신 ReentrantLock 을 쓴다.
+    private final ReentrantLock lock = new ReentrantLock();
+    // 아직 보지 못한 id -> 처음 건너뛴 시각(nanoTime). id 오름차순으로 들어간다.
+    private final LinkedHashMap<Long, Long> gaps = new LinkedHashMap<>();
+    private long lastId = -1;
+    private volatile long lastSeenId;
+    private volatile int openGaps;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder expiredGaps = new LongAdder();
+
+    public CacheChangePoller(JdbcTemplate jdbcTemplate,
+                             List<CacheInvalidator> cacheInvalidators,
+                             MetricsRegistry metricsRegistry,
+                             @Value("${cache-sync.batch-size:1000}") int batchSize,
+                             @Value("${cache-sync.max-gaps:1000}") int maxGaps,
+                             @Value("${cache-sync.gap-timeout-ms:60000}") long gapTimeoutMs,
+                             @Value("${cache-sync.retention-ms:3600000}") long retentionMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (CacheInvalidator invalidator : cacheInvalidators) {
+            invalidators.computeIfAbsent(invalidator.cacheName(), name -> new ArrayList<>()).add(invalidator);
+        }
+        this.batchSize = batchSize;
+        this.maxGaps = maxGaps;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMs);
+        this.retentionMs = retentionMs;
+        metricsRegistry.gauge("cache_sync_last_id", "", "Last cache_change_log id applied on this node", () -> lastSeenId);
+        metricsRegistry.gauge("cache_sync_open_gaps", "", "Skipped cache_change_log ids still being re-checked", () -> openGaps);
+        metricsRegistry.counter("cache_sync_applied", "", "Cache changes applied from other nodes", applied::sum);
+        metricsRegistry.counter("cache_sync_expired_gaps", "", "Skipped cache_change_log ids given up after the gap timeout", expiredGaps::sum);
+    }
+
+    /**
+     * 시작 시점의 로컬 캐시는 비어 있으므로 이전 변경은 읽지 않고 마지막 id 부터 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lock.lock();
+        try {
+            Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID_SQL, Long.class);
+            lastId = maxId == null ? 0 : maxId;
+            lastSeenId = lastId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache-sync.poll-interval-ms:1000}",
+            initialDelayString = "${cache-sync.poll-interval-ms:1000}")
+    public void poll() {
+        lock.lock();
+        try {
+            if (lastId < 0) {
+                return;
+            }
+            pollChanges();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void pollChanges() {
+        try {
+            if (!gaps.isEmpty()) {
+                recheckGaps();
+            }
+            List<Change> changes;
+            do {
+                changes = jdbcTemplate.query(SELECT_AFTER_SQL, CHANGE_MAPPER, lastId, batchSize);
+                for (Change change : changes) {
+                    for (long id = Math.max(lastId + 1, change.id - maxGaps); id < change.id; id++) {
+                        gaps.put(id, System.nanoTime());
+                    }
+                    lastId = change.id;
+                }
+                apply(changes);
+            } while (changes.size() == batchSize);
+            trimGaps();
+        } catch (RuntimeException e) {
+            log.warn("캐시 변경 로그 조회에 실패했습니다. 다음 주기에 다시 시도합니다. cause={}", e.toString());
+        } finally {
+            lastSeenId = lastId;
+            openGaps = gaps.size();
+        }
+    }
+
+    /**
+     * 모든 노드가 보관 기간이 지난 기록을 지운다. 같은 행을 지우므로 여러 노드가 동시에 실행해도 된다.
+     */
+    @Scheduled(fixedDelayString = "${cache-sync.cleanup-interval-ms:600000}")
+    public void deleteExpired() {
+        jdbcTemplate.update(DELETE_BEFORE_SQL, Timestamp.valueOf(LocalDateTime.now().minusNanos(retentionMs * 1_000_000)));
+    }
+
+    private void recheckGaps() {
+        String placeholders = String.join(",", Collections.nCopies(gaps.size(), "?"));
+        List<Change> found = jdbcTemplate.query(SELECT_IN_SQL.formatted(placeholders), CHANGE_MAPPER, gaps.keySet().toArray());
+        for (Change change : found) {
+            gaps.remove(change.id);
+        }
+        apply(found);
+
+        long now = System.nanoTime();
+        Iterator<Long> detectedAt = gaps.values().iterator();
+        while (detectedAt.hasNext()) {
+            if (now - detectedAt.next() < gapTimeoutNanos) {
+                break;
+            }
+            detectedAt.remove();
+            expiredGaps.increment();
+        }
+    }
+
+    // 한 번에 너무 많이 건너뛰면 오래된 gap 부터 버린다.
+    private void trimGaps() {
+        Iterator<Long> ids = gaps.keySet().iterator();
+        while (gaps.size() > maxGaps && ids.hasNext()) {
+            ids.next();
+            ids.remove();
+            expiredGaps.increment();
+        }
+    }
+
+    private void apply(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Map<CacheName, Set<Long>> keysByCache = new EnumMap<>(CacheName.class);
+        for (Change change : changes) {
+            CacheName cacheName = cacheNameOf(change.cacheName);
+            if (cacheName != null && invalidators.containsKey(cacheName)) {
+                keysByCache.computeIfAbsent(cacheName, name -> new HashSet<>()).add(change.entityKey);
+            }
+        }
+        keysByCache.forEach((cacheName, keys) -> {
+            for (CacheInvalidator invalidator : invalidators.get(cacheName)) {
+                invalidator.invalidateAll(keys);
+            }
+        });
+        applied.add(changes.size());
+    }
+
+    // 새 버전의 노드가 기록한, 이 노드가 모르는 캐시 종류는 건너뛴다.
+    private static CacheName cacheNameOf(String name) {
+        try {
+            return CacheName.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record Change(long id, String cacheName, long entityKey) {
+    }
+}
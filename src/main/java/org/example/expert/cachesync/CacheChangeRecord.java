@@ -0,0 +1,27 @@
+package org.example.expert.cachesync;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * CacheChangeLog, CacheChangePoller 가 JDBC 로 읽고 쓰므로, 이 엔티티는 스키마 정의에만 사용한다.
+ * 노드는 id 순으로 읽으므로 id 는 증가하는 IDENTITY 여야 한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "cache_change_log", indexes = @Index(name = "idx_cache_change_log_created_at", columnList = "createdAt"))
+public class CacheChangeRecord {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false, length = 30)
+    private String cacheName;
+    @Column(nullable = false)
+    private long entityKey;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
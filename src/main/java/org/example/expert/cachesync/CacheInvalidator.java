@@ -0,0 +1,13 @@
+package org.example.expert.cachesync;
+
+import java.util.Collection;
+
+/**
+ * 다른 노드에서 바뀐 엔티티를 로컬 캐시에서 지운다. 빈으로 등록하면 CacheChangePoller 가 찾아서 호출한다.
+ */
+public interface CacheInvalidator {
+
+    CacheName cacheName();
+
+    void invalidateAll(Collection<Long> keys);
+}
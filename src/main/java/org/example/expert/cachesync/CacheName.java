@@ -0,0 +1,16 @@
+package org.example.expert.cachesync;
+
+/**
+ * cache_change_log 에 기록하는 캐시 종류. entity_key 가 무엇을 가리키는지는 종류마다 다르다.
+ * 이름이 DB 에 문자열로 저장되므로 바꾸지 말고 추가만 한다.
+ */
+public enum CacheName {
+    // key: userId. 권한 변경
+    USER,
+    // key: todoId. 일정 생성, 수정
+    TODO,
+    // key: todoId. 일정의 댓글 목록 변경
+    TODO_COMMENTS,
+    // key: todoId. 일정의 담당자 목록 변경
+    TODO_MANAGERS
+}
@@ -0,0 +1,103 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반의 circuit breaker.
+ * CLOSED 에서 failureThreshold 번 연속 실패하면 OPEN 이 되어 openDuration 동안 호출을 바로 거절하고,
+ * 그 뒤 첫 호출 하나만 HALF_OPEN 상태의 probe 로 통과시켜 성공하면 CLOSED, 실패하면 다시 OPEN 으로 돌아간다.
+ * tryAcquire 로 허용된 호출은 반드시 onSuccess / onFailure / onIgnored 중 하나로 결과를 알려야 한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final State[] STATES = State.values();
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger state = new AtomicInteger(State.CLOSED.ordinal());
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean tryAcquire() {
+        int current = state.get();
+        if (current == State.CLOSED.ordinal()) {
+            return true;
+        }
+        // OPEN 이 끝났으면 가장 먼저 CAS 에 성공한 호출 하나만 probe 로 보낸다.
+        if (current == State.OPEN.ordinal()
+                && nanoClock.getAsLong() - openedAt >= openNanos
+                && state.compareAndSet(current, State.HALF_OPEN.ordinal())) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED.ordinal());
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN.ordinal()) {
+            open(State.HALF_OPEN);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(State.CLOSED);
+        }
+    }
+
+    /**
+     * 호출한 쪽의 사정(요청 deadline 등)으로 중단되어 외부 API 의 상태를 판단할 수 없는 호출.
+     * 실패로 세지 않고, probe 였다면 다음 호출이 바로 다시 probe 가 될 수 있도록 OPEN 으로 되돌린다.
+     */
+    public void onIgnored() {
+        state.compareAndSet(State.HALF_OPEN.ordinal(), State.OPEN.ordinal());
+    }
+
+    public State state() {
+        return STATES[state.get()];
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public long opened() {
+        return opened.sum();
+    }
+
+    private void open(State from) {
+        // 이미 OPEN 이면 열린 시각을 늦추지 않는다.
+        if (state.get() != from.ordinal()) {
+            return;
+        }
+        openedAt = nanoClock.getAsLong();
+        if (state.compareAndSet(from.ordinal(), State.OPEN.ordinal())) {
+            opened.increment();
+        }
+    }
+}
@@ -1,30 +1,131 @@
 package org.example.expert.client;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.client.dto.WeatherDto;
-import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.config.DeadlineExceededException;
+import org.example.expert.config.RateLimitedLogger;
+import org.example.expert.config.RequestDeadline;
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 외부 날씨 API 클라이언트.
+ * keep-alive connection pool 과 연결/응답/pool 대기 timeout 을 두어 외부 API 가 멈춰도 할일 저장이 무한정 기다리지 않고,
+ * 연속으로 실패하면 circuit breaker 가 열려 외부 API 를 호출하지 않고 바로 fallback 날씨를 돌려준다.
+ * 요청에 deadline 이 있으면 응답/pool 대기 timeout 을 남은 시간으로 줄이고, deadline 때문에 실패한 호출은 circuit breaker 에 세지 않는다.
+ */
+@Slf4j
 @Component
-public class WeatherClient {
+public class WeatherClient implements DisposableBean {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
     private final RestTemplate restTemplate;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RequestConfig defaultRequestConfig;
+    private final CircuitBreaker circuitBreaker;
+    private final URI weatherApiUri;
+    private final String fallbackWeather;
+    private final RateLimitedLogger failureLog = new RateLimitedLogger(log, Duration.ofSeconds(10));
+
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    // 부하 테스트에서는 base-url 을 로컬 stub 으로 바꿔 외부 API 없이 실행한다.
+    public WeatherClient(RestTemplateBuilder builder,
+                         MetricsRegistry metricsRegistry,
+                         @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+                         @Value("${weather.http.max-connections:20}") int maxConnections,
+                         @Value("${weather.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+                         @Value("${weather.http.response-timeout-ms:2000}") long responseTimeoutMs,
+                         @Value("${weather.http.connection-request-timeout-ms:500}") long connectionRequestTimeoutMs,
+                         @Value("${weather.circuit.failure-threshold:5}") int failureThreshold,
+                         @Value("${weather.circuit.open-ms:10000}") long openMs,
+                         @Value("${weather.fallback:Unknown}") String fallbackWeather) {
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        this.defaultRequestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(defaultRequestConfig)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                // 재시도는 circuit breaker 의 실패 집계를 흐리고 timeout 을 늘리므로 하지 않는다.
+                .disableAutomaticRetries()
+                .build();
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> deadlineContext());
+        this.restTemplate = builder
+                .requestFactory(() -> requestFactory)
+                .build();
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofMillis(openMs));
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.fallbackWeather = fallbackWeather;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        metricsRegistry.gauge("weather_circuit_state", "", "Weather API circuit breaker state (0 closed, 1 open, 2 half-open)",
+                () -> circuitBreaker.state().ordinal());
+        metricsRegistry.counter("weather_circuit_opened_total", "", "Times the weather API circuit breaker opened", circuitBreaker::opened);
+        metricsRegistry.counter("weather_circuit_rejected_total", "", "Weather API calls rejected by the open circuit", circuitBreaker::rejected);
+        metricsRegistry.counter("weather_failures_total", "", "Weather API calls that failed", failures::sum);
+        metricsRegistry.counter("weather_fallbacks_total", "", "Fallback weather values returned", fallbacks::sum);
+        metricsRegistry.gauge("weather_pool_leased", "", "Leased weather API connections", () -> connectionManager.getTotalStats().getLeased());
+        metricsRegistry.gauge("weather_pool_available", "", "Idle weather API connections", () -> connectionManager.getTotalStats().getAvailable());
+        metricsRegistry.gauge("weather_pool_pending", "", "Requests waiting for a weather API connection", () -> connectionManager.getTotalStats().getPending());
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        RequestDeadline.check();
+        if (!circuitBreaker.tryAcquire()) {
+            fallbacks.increment();
+            return fallbackWeather;
+        }
+
+        ResponseEntity<WeatherDto[]> responseEntity;
+        try {
+            responseEntity = restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
+        } catch (RestClientException e) {
+            if (RequestDeadline.isExpired()) {
+                circuitBreaker.onIgnored();
+                throw new DeadlineExceededException();
+            }
+            return fallback("날씨 API 호출 실패: " + e.getMessage());
+        }
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         /**
@@ -32,27 +133,64 @@ public class WeatherClient {
          * 조건 : 불필요한 else 블록을 없애 코드를 간결하게 하라
          */
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+            return fallback("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
         }
-
+        // 200 이어도 쓸 수 있는 데이터가 없으면 장애로 보고 circuit breaker 에 실패로 센다.
         if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+            return fallback("날씨 데이터가 없습니다.");
         }
 
         String today = getCurrentDate();
 
         for (WeatherDto weatherDto : weatherArray) {
             if (today.equals(weatherDto.getDate())) {
+                circuitBreaker.onSuccess();
                 return weatherDto.getWeather();
             }
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return fallback("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+
+    // deadline 이 없는 호출은 null 을 돌려주어 기본 RequestConfig 를 그대로 쓴다.
+    private HttpContext deadlineContext() {
+        long remainingMs = RequestDeadline.remainingMillis();
+        if (remainingMs == RequestDeadline.NONE) {
+            return null;
+        }
+        Timeout remaining = Timeout.ofMilliseconds(Math.max(remainingMs, 1));
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.copy(defaultRequestConfig)
+                .setResponseTimeout(shorter(defaultRequestConfig.getResponseTimeout(), remaining))
+                .setConnectionRequestTimeout(shorter(defaultRequestConfig.getConnectionRequestTimeout(), remaining))
+                .build());
+        return context;
+    }
+
+    private static Timeout shorter(Timeout configured, Timeout remaining) {
+        return configured.compareTo(remaining) <= 0 ? configured : remaining;
+    }
+
+    private String fallback(String reason) {
+        circuitBreaker.onFailure();
+        failures.increment();
+        fallbacks.increment();
+        failureLog.warn("weather-failure", reason + " (fallback: " + fallbackWeather + ")");
+        return fallbackWeather;
     }
 
-    private URI buildWeatherApiUri() {
+    private static URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -60,7 +198,6 @@ public class WeatherClient {
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(DATE_FORMATTER);
     }
 }
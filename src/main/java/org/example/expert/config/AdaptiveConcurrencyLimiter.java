@@ -0,0 +1,184 @@
+package org.example.expert.config;
+
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 응답 시간의 변화로 동시 처리 한도를 조절하는 gradient 방식의 limiter.
+ * window 마다 평균 응답 시간(short RTT)을 장기 평균(long RTT)과 비교해
+ * 응답이 느려지면 한도를 줄이고, 그대로면 sqrt(limit) 만큼씩 늘린다.
+ * 한도의 절반도 쓰지 않는 window 는 부하가 아니라 요청이 적은 것이므로 한도를 바꾸지 않는다.
+ *
+ * 우선순위가 낮은 요청일수록 한도의 일부만 쓸 수 있어서, 한도가 줄어들면 LOW, NORMAL 순서로 먼저 거절된다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        HIGH(1.0), NORMAL(0.9), LOW(0.5);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    // long RTT 는 최근 20개 window 의 지수 이동 평균
+    private static final double LONG_RTT_WEIGHT = 1.0 / 20;
+    // 이 비율까지의 지연 증가는 정상 변동으로 본다.
+    private static final double TOLERANCE = 1.5;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final double smoothing;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder[] rejected = new LongAdder[PRIORITIES.length];
+    private volatile int limit;
+
+    // 현재 window 의 표본. 요청마다 갱신되므로 lock 없이 쌓고, window 를 닫을 때만 lock 을 잡는다.
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private volatile long windowStartedAt;
+    private final ReentrantLock windowLock = new ReentrantLock();
+    private double estimatedLimit;
+    private volatile double shortRttNanos;
+    private volatile double longRttNanos;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(MetricsRegistry metricsRegistry,
+                                      @Value("${adaptive-limit.enabled:true}") boolean enabled,
+                                      @Value("${adaptive-limit.initial-limit:100}") int initialLimit,
+                                      @Value("${adaptive-limit.min-limit:10}") int minLimit,
+                                      @Value("${adaptive-limit.max-limit:400}") int maxLimit,
+                                      @Value("${adaptive-limit.window-ms:500}") long windowMs) {
+        this(enabled, initialLimit, minLimit, maxLimit, Duration.ofMillis(windowMs), 10, 0.2, System::nanoTime);
+
+        metricsRegistry.gauge("adaptive_limit", "", "Adaptive concurrency limit", this::limit);
+        metricsRegistry.gauge("adaptive_in_flight", "", "Requests in flight under the adaptive limit", inFlight::get);
+        metricsRegistry.gauge("adaptive_rtt_short_seconds", "", "Mean latency of the last window", () -> shortRttNanos / 1_000_000_000.0);
+        metricsRegistry.gauge("adaptive_rtt_long_seconds", "", "Long-term mean latency", () -> longRttNanos / 1_000_000_000.0);
+        for (Priority priority : PRIORITIES) {
+            metricsRegistry.counter("adaptive_rejected_total", MetricsRegistry.labels("priority", priority.name()),
+                    "Requests shed by the adaptive limit", rejected[priority.ordinal()]::sum);
+        }
+    }
+
+    AdaptiveConcurrencyLimiter(boolean enabled, int initialLimit, int minLimit, int maxLimit, Duration window,
+                               int minWindowSamples, double smoothing, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = window.toNanos();
+        this.minWindowSamples = minWindowSamples;
+        this.smoothing = smoothing;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.windowStartedAt = nanoClock.getAsLong();
+        for (Priority priority : PRIORITIES) {
+            rejected[priority.ordinal()] = new LongAdder();
+        }
+    }
+
+    public boolean tryAcquire(Priority priority) {
+        if (!enabled) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        int allowed = Math.max(1, (int) (limit * priority.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected[priority.ordinal()].increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 로 허용된 요청이 끝나면 처리 시간과 함께 호출한다.
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        if (!enabled) {
+            return;
+        }
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+
+        long now = nanoClock.getAsLong();
+        if (now - windowStartedAt >= windowNanos && windowSamples.sum() >= minWindowSamples && windowLock.tryLock()) {
+            try {
+                closeWindow(now);
+            } finally {
+                windowLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 처리 시간이 일반 요청과 비교할 수 없는 요청(일괄 처리 등)은 RTT 표본에 넣지 않고 자리만 돌려준다.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected(Priority priority) {
+        return rejected[priority.ordinal()].sum();
+    }
+
+    private void closeWindow(long now) {
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttNanos.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        windowStartedAt = now;
+        if (samples == 0) {
+            return;
+        }
+
+        double shortRtt = (double) rttSum / samples;
+        double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+        // 지연이 크게 줄어든 뒤에는 예전의 높은 평균에 끌려다니지 않도록 long RTT 를 빠르게 낮춘다.
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        shortRttNanos = shortRtt;
+        longRttNanos = longRtt;
+
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+        limit = (int) estimatedLimit;
+    }
+}
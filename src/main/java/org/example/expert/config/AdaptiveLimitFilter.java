@@ -0,0 +1,83 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.*;
+import org.example.expert.config.AdaptiveConcurrencyLimiter.Priority;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+/**
+ * 전체 요청에 적응형 동시 처리 한도를 적용한다.
+ * 관리자 API 는 LOW, 조회는 NORMAL, 로그인과 변경 요청은 HIGH 우선순위로 처리해
+ * 응답이 느려지기 시작하면 관리자 API 와 조회 요청이 먼저 503 으로 거절된다.
+ * 일괄 처리 API 도 한도 안에서 실행되지만, 처리 시간은 RTT 표본에 넣지 않는다.
+ * 뒤의 필터(JwtFilter 의 401, BulkheadFilter 의 503 등)가 핸들러까지 가지 않고 바로 응답한 요청도 표본에서 뺀다.
+ * 이런 응답은 매우 빨라서, 과부하로 거절이 몰릴 때 평균 응답 시간을 낮춰 오히려 한도를 늘리게 된다.
+ */
+public class AdaptiveLimitFilter implements Filter {
+
+    private static final String HANDLED_ATTRIBUTE = AdaptiveLimitFilter.class.getName() + ".HANDLED";
+    private static final String REJECTED_MESSAGE = "서버가 혼잡하여 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ErrorResponseCache errorResponseCache;
+
+    public AdaptiveLimitFilter(AdaptiveConcurrencyLimiter limiter, ErrorResponseCache errorResponseCache) {
+        this.limiter = limiter;
+        this.errorResponseCache = errorResponseCache;
+        errorResponseCache.register(HttpStatus.SERVICE_UNAVAILABLE, REJECTED_MESSAGE);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+
+        String path = RequestPaths.lookupPath(httpRequest);
+        if (!limiter.tryAcquire(priorityOf(httpRequest.getMethod(), path))) {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, BulkheadFilter.RETRY_AFTER_SECONDS);
+            errorResponseCache.write(httpResponse, HttpStatus.SERVICE_UNAVAILABLE, REJECTED_MESSAGE);
+            return;
+        }
+
+        if (LongRunningRoutes.matches(path)) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                limiter.releaseWithoutSample();
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (httpRequest.getAttribute(HANDLED_ATTRIBUTE) != null) {
+                limiter.release(System.nanoTime() - start);
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    /**
+     * 요청이 핸들러까지 도달했음을 표시한다. 표시된 요청의 처리 시간만 RTT 표본이 된다.
+     */
+    static void markHandled(HttpServletRequest request) {
+        request.setAttribute(HANDLED_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    static Priority priorityOf(String method, String uri) {
+        if (uri.startsWith("/admin/") || uri.equals("/admin")) {
+            return Priority.LOW;
+        }
+        if (uri.startsWith("/auth/")) {
+            return Priority.HIGH;
+        }
+        return "GET".equals(method) || "HEAD".equals(method) ? Priority.NORMAL : Priority.HIGH;
+    }
+}
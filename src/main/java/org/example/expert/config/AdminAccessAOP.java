@@ -1,11 +1,14 @@
 package org.example.expert.config;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.domain.audit.writer.AuditEvent;
+import org.example.expert.domain.audit.writer.AuditEventBuffer;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -14,29 +17,38 @@ import java.time.LocalDateTime;
 
 @Aspect
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class AdminAccessAOP {
+
+    private final AuditEventBuffer auditEventBuffer;
+
     /**
      * 레벨 2-9 AOP
      * 조건 : 특정 API에 접근할 때 접근 로그를 기록한다.
      * 로그 내용 : 사용자 ID, 요청 시각, 요청 URL
+     * 수정 : @AuditedAccess 가 선언된 핸들러를 대상으로 하고, 기록은 buffer 에 넣어 AdminAuditWriter 가 비동기로 저장한다.
      */
-    @Pointcut("execution(* org.example.expert.domain.comment.controller.CommentAdminController.deleteComment(..))")
-    private void commentAdminControllerPointcut() {}
-
-    @Pointcut("execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
-    private void userAdminController() {}
+    @Pointcut("@annotation(org.example.expert.domain.common.annotation.AuditedAccess) " +
+            "|| @within(org.example.expert.domain.common.annotation.AuditedAccess)")
+    private void auditedAccess() {}
 
-    @Around("commentAdminControllerPointcut() || userAdminController()")
+    @Around("auditedAccess()")
     public Object adminLog(ProceedingJoinPoint joinPoint) throws Throwable {
         // 참고 : https://whitelife.tistory.com/214
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
 
-        Long userId = (Long) request.getAttribute("userId");
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.ATTRIBUTE);
+        Long userId = authUser == null ? null : authUser.getId();
 
-        log.info("사용자 ID : {}, 요청 시각 : {}, 요청 URL : {}",
-                userId, LocalDateTime.now(), request.getRequestURI());
+        // buffer 가 가득 찬 경우에는 요청을 막지 않고 기록을 버린다. (AuditEventBuffer.dropped 로 확인)
+        auditEventBuffer.offer(new AuditEvent(
+                userId,
+                request.getMethod(),
+                request.getRequestURI(),
+                joinPoint.getSignature().toShortString(),
+                LocalDateTime.now()
+        ));
 
-        return  joinPoint.proceed();
+        return joinPoint.proceed();
     }
 }
@@ -0,0 +1,54 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+/**
+ * 라우트 그룹의 permit 을 얻은 요청만 다음 필터로 넘긴다.
+ * 정해진 시간 안에 permit 을 얻지 못하면 인증이나 DB 작업 없이 바로 503 을 반환한다.
+ */
+public class BulkheadFilter implements Filter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+    private static final String REJECTED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Bulkheads bulkheads;
+    private final ErrorResponseCache errorResponseCache;
+
+    public BulkheadFilter(Bulkheads bulkheads, ErrorResponseCache errorResponseCache) {
+        this.bulkheads = bulkheads;
+        this.errorResponseCache = errorResponseCache;
+        errorResponseCache.register(HttpStatus.SERVICE_UNAVAILABLE, REJECTED_MESSAGE);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        Bulkhead bulkhead = bulkheads.forUri(RequestPaths.lookupPath((HttpServletRequest) request));
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            errorResponseCache.write(httpResponse, HttpStatus.SERVICE_UNAVAILABLE, REJECTED_MESSAGE);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
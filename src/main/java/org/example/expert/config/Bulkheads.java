@@ -0,0 +1,60 @@
+package org.example.expert.config;
+
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * URL prefix 로 나눈 라우트 그룹별 Bulkhead.
+ * bcrypt 를 쓰는 /auth 와 관리자 기능 /admin 이 몰려도 나머지 도메인 API (/todos, /users ...) 의 permit 을 쓰지 않는다.
+ */
+@Component
+public class Bulkheads {
+
+    private static final String AUTH_PREFIX = "/auth";
+    private static final String ADMIN_PREFIX = "/admin";
+
+    private final Bulkhead auth;
+    private final Bulkhead admin;
+    private final Bulkhead api;
+
+    public Bulkheads(MetricsRegistry metricsRegistry,
+                     @Value("${bulkhead.auth.max-concurrent:16}") int authMaxConcurrent,
+                     @Value("${bulkhead.auth.max-queue:64}") int authMaxQueue,
+                     @Value("${bulkhead.auth.queue-timeout-ms:200}") long authQueueTimeoutMs,
+                     @Value("${bulkhead.admin.max-concurrent:8}") int adminMaxConcurrent,
+                     @Value("${bulkhead.admin.max-queue:16}") int adminMaxQueue,
+                     @Value("${bulkhead.admin.queue-timeout-ms:500}") long adminQueueTimeoutMs,
+                     @Value("${bulkhead.api.max-concurrent:150}") int apiMaxConcurrent,
+                     @Value("${bulkhead.api.max-queue:200}") int apiMaxQueue,
+                     @Value("${bulkhead.api.queue-timeout-ms:200}") long apiQueueTimeoutMs) {
+        this.auth = new Bulkhead("auth", authMaxConcurrent, authMaxQueue, Duration.ofMillis(authQueueTimeoutMs));
+        this.admin = new Bulkhead("admin", adminMaxConcurrent, adminMaxQueue, Duration.ofMillis(adminQueueTimeoutMs));
+        this.api = new Bulkhead("api", apiMaxConcurrent, apiMaxQueue, Duration.ofMillis(apiQueueTimeoutMs));
+
+        for (Bulkhead bulkhead : List.of(auth, admin, api)) {
+            String labels = MetricsRegistry.labels("group", bulkhead.name());
+            metricsRegistry.gauge("bulkhead_max_concurrent", labels, "Bulkhead permits", bulkhead::maxConcurrent);
+            metricsRegistry.gauge("bulkhead_in_use", labels, "Bulkhead permits in use", bulkhead::inUse);
+            metricsRegistry.gauge("bulkhead_waiting", labels, "Requests waiting for a bulkhead permit", bulkhead::waiting);
+            metricsRegistry.counter("bulkhead_rejected_total", labels, "Requests rejected by the bulkhead", bulkhead::rejected);
+        }
+    }
+
+    public Bulkhead forUri(String uri) {
+        if (matches(uri, AUTH_PREFIX)) {
+            return auth;
+        }
+        if (matches(uri, ADMIN_PREFIX)) {
+            return admin;
+        }
+        return api;
+    }
+
+    private static boolean matches(String uri, String prefix) {
+        return uri.startsWith(prefix) && (uri.length() == prefix.length() || uri.charAt(prefix.length()) == '/');
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+public class DeadlineExceededException extends ServerException {
+
+    public static final String MESSAGE = "요청 처리 시간이 초과되었습니다.";
+
+    public DeadlineExceededException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 deadline 을 정한다. 클라이언트가 X-Request-Timeout (ms) 헤더를 보내면 그 값을,
+ * 없으면 라우트 기본값을 쓰고, 어느 쪽이든 maxTimeoutMs 를 넘지 않는다.
+ * 일괄 처리 API (LongRunningRoutes) 는 bulkTimeoutMs 를 기본값이자 상한으로 쓴다.
+ * 대기열(bulkhead, 동시 처리 한도)에서 기다린 시간도 포함되도록 가장 앞쪽 필터에서 시작한다.
+ */
+public class DeadlineFilter implements Filter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final long defaultTimeoutMs;
+    private final long adminTimeoutMs;
+    private final long maxTimeoutMs;
+    private final long bulkTimeoutMs;
+
+    public DeadlineFilter(long defaultTimeoutMs, long adminTimeoutMs, long maxTimeoutMs, long bulkTimeoutMs) {
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.adminTimeoutMs = adminTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+        this.bulkTimeoutMs = bulkTimeoutMs;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        RequestDeadline.begin(TimeUnit.MILLISECONDS.toNanos(timeoutMsOf(httpRequest)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.end();
+        }
+    }
+
+    long timeoutMsOf(HttpServletRequest request) {
+        String uri = RequestPaths.lookupPath(request);
+        boolean bulk = LongRunningRoutes.matches(uri);
+        long timeoutMs = bulk ? bulkTimeoutMs : uri.startsWith("/admin/") ? adminTimeoutMs : defaultTimeoutMs;
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                timeoutMs = Long.parseLong(header.trim());
+            } catch (NumberFormatException ignored) {
+                // 잘못된 값은 무시하고 라우트 기본값을 쓴다.
+            }
+        }
+        return Math.min(Math.max(timeoutMs, 0), bulk ? bulkTimeoutMs : maxTimeoutMs);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 대기열에서 기다리는 동안 deadline 이 지난 요청은 컨트롤러와 서비스에 들어가기 전에 중단한다.
+ */
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.check();
+        return true;
+    }
+}
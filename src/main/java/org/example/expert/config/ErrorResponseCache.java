@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에러 응답 본문({"status", "code", "message"})을 미리 직렬화해 재사용한다.
+ * 필터가 거절할 때 쓰는 고정 메시지는 필터를 만들 때 register 로 등록해, 잘못된 토큰이나 과부하 거절이 몰려도
+ * 요청마다 Map 생성과 직렬화를 하지 않는다. 등록하지 않은 메시지는 처리한 레코드 수처럼 값이 계속 달라질 수 있으므로
+ * 캐시에 넣지 않고 매번 직렬화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Map<HttpStatus, Map<String, byte[]>> bodies = new ConcurrentHashMap<>();
+
+    public void register(HttpStatus status, String message) {
+        bodies.computeIfAbsent(status, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(message, m -> serialize(status, m));
+    }
+
+    public byte[] body(HttpStatus status, String message) {
+        Map<String, byte[]> registered = bodies.get(status);
+        byte[] body = registered == null ? null : registered.get(message);
+        return body != null ? body : serialize(status, message);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(status, message));
+    }
+
+    public void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] body = body(status, message);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private byte[] serialize(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", message);
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
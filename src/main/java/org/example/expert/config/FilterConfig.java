@@ -1,6 +1,14 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.idempotency.IdempotencyFilter;
+import org.example.expert.idempotency.IdempotencyStore;
+import org.example.expert.idempotency.IdempotentRoutes;
+import org.example.expert.metrics.MetricsFilter;
+import org.example.expert.metrics.MetricsRegistry;
+import org.example.expert.metrics.query.QueryBudgetFilter;
+import org.example.expert.metrics.query.QueryTracker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,13 +17,95 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class FilterConfig {
 
+    // 숫자가 작을수록 먼저 실행됩니다.
+    private static final int METRICS_FILTER_ORDER = 0;
+    private static final int DEADLINE_FILTER_ORDER = 1;
+    private static final int ADAPTIVE_LIMIT_FILTER_ORDER = 3;
+    private static final int BULKHEAD_FILTER_ORDER = 5;
+    private static final int QUERY_BUDGET_FILTER_ORDER = 10;
+    private static final int JWT_FILTER_ORDER = 100;
+    private static final int IDEMPOTENCY_FILTER_ORDER = 110;
+
     private final JwtUtil jwtUtil;
+    private final RoleVersionRegistry roleVersionRegistry;
+    private final RouteAccessTable routeAccessTable;
+    private final ErrorResponseCache errorResponseCache;
+    private final MetricsRegistry metricsRegistry;
+    private final QueryTracker queryTracker;
+    private final Bulkheads bulkheads;
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final IdempotentRoutes idempotentRoutes;
+    private final IdempotencyStore idempotencyStore;
+
+    @Bean
+    public FilterRegistrationBean<MetricsFilter> metricsFilter() {
+        FilterRegistrationBean<MetricsFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new MetricsFilter(metricsRegistry, routeAccessTable));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(METRICS_FILTER_ORDER);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(@Value("${deadline.default-ms:5000}") long defaultTimeoutMs,
+                                                                 @Value("${deadline.admin-ms:30000}") long adminTimeoutMs,
+                                                                 @Value("${deadline.max-ms:30000}") long maxTimeoutMs,
+                                                                 @Value("${deadline.bulk-ms:600000}") long bulkTimeoutMs) {
+        FilterRegistrationBean<DeadlineFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new DeadlineFilter(defaultTimeoutMs, adminTimeoutMs, maxTimeoutMs, bulkTimeoutMs));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(DEADLINE_FILTER_ORDER);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdaptiveLimitFilter> adaptiveLimitFilter() {
+        FilterRegistrationBean<AdaptiveLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new AdaptiveLimitFilter(adaptiveConcurrencyLimiter, errorResponseCache));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(ADAPTIVE_LIMIT_FILTER_ORDER);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter() {
+        FilterRegistrationBean<BulkheadFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new BulkheadFilter(bulkheads, errorResponseCache));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(BULKHEAD_FILTER_ORDER);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter() {
+        FilterRegistrationBean<QueryBudgetFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new QueryBudgetFilter(queryTracker));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(QUERY_BUDGET_FILTER_ORDER);
+
+        return registrationBean;
+    }
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, roleVersionRegistry, routeAccessTable, errorResponseCache));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
+        registrationBean.setOrder(JWT_FILTER_ORDER);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(@Value("${idempotency.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        FilterRegistrationBean<IdempotencyFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new IdempotencyFilter(idempotentRoutes, idempotencyStore, errorResponseCache, metricsRegistry, waitTimeoutMs));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(IDEMPOTENCY_FILTER_ORDER);
 
         return registrationBean;
     }
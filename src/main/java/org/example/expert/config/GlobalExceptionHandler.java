@@ -3,42 +3,55 @@ package org.example.expert.config;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseCache errorResponseCache;
+
+    // deadline 초과는 과부하 때 몰려서 발생하므로 본문을 미리 직렬화해 둔다.
+    public GlobalExceptionHandler(ErrorResponseCache errorResponseCache) {
+        this.errorResponseCache = errorResponseCache;
+        errorResponseCache.register(HttpStatus.GATEWAY_TIMEOUT, DeadlineExceededException.MESSAGE);
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
-    public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
+    public ResponseEntity<byte[]> invalidRequestExceptionException(InvalidRequestException ex) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(AuthException.class)
-    public ResponseEntity<Map<String, Object>> handleAuthException(AuthException ex) {
+    public ResponseEntity<byte[]> handleAuthException(AuthException ex) {
         HttpStatus status = HttpStatus.UNAUTHORIZED;
         return getErrorResponse(status, ex.getMessage());
     }
 
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<byte[]> handleDeadlineExceededException(DeadlineExceededException ex) {
+        HttpStatus status = HttpStatus.GATEWAY_TIMEOUT;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
+    // deadline 으로 줄어든 JDBC query timeout 에 걸린 경우
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<byte[]> handleQueryTimeoutException(QueryTimeoutException ex) {
+        HttpStatus status = HttpStatus.GATEWAY_TIMEOUT;
+        return getErrorResponse(status, DeadlineExceededException.MESSAGE);
+    }
+
     @ExceptionHandler(ServerException.class)
-    public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
+    public ResponseEntity<byte[]> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         return getErrorResponse(status, ex.getMessage());
     }
 
-    public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-
-        return new ResponseEntity<>(errorResponse, status);
+    public ResponseEntity<byte[]> getErrorResponse(HttpStatus status, String message) {
+        return errorResponseCache.toResponseEntity(status, message);
     }
 }
-
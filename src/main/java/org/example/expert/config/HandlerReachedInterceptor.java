@@ -0,0 +1,18 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 필터를 모두 통과해 핸들러까지 온 요청을 표시한다. AdaptiveLimitFilter 는 표시된 요청의 처리 시간만 표본으로 쓴다.
+ * deadline 이 지나 DeadlineInterceptor 에서 중단되는 요청도 대기열에서 오래 기다린 요청이므로 표본에 넣도록 먼저 등록한다.
+ */
+public class HandlerReachedInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AdaptiveLimitFilter.markHandled(request);
+        return true;
+    }
+}
@@ -8,17 +8,51 @@ import jakarta.servlet.FilterConfig;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.enums.AccessLevel;
 import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // 잘못된 토큰은 요청마다 남기지 않고 종류별로 10초에 한 번만 기록합니다.
+    private static final RateLimitedLogger rejectionLog = new RateLimitedLogger(log, Duration.ofSeconds(10));
+
+    private static final String TOKEN_REQUIRED_MESSAGE = "JWT 토큰이 필요합니다.";
+    private static final String TOKEN_MALFORMED_MESSAGE = "잘못된 JWT 토큰입니다.";
+    private static final String ROLE_CHANGED_MESSAGE = "권한이 변경되었습니다. 다시 로그인해주세요.";
+    private static final String ADMIN_REQUIRED_MESSAGE = "관리자 권한이 없습니다.";
+    private static final String INVALID_SIGNATURE_MESSAGE = "유효하지 않는 JWT 서명입니다.";
+    private static final String EXPIRED_MESSAGE = "만료된 JWT 토큰입니다.";
+    private static final String UNSUPPORTED_MESSAGE = "지원되지 않는 JWT 토큰입니다.";
+    private static final String INVALID_MESSAGE = "유효하지 않는 JWT 토큰입니다.";
+
     private final JwtUtil jwtUtil;
+    private final RoleVersionRegistry roleVersionRegistry;
+    private final RouteAccessTable routeAccessTable;
+    private final ErrorResponseCache errorResponseCache;
+
+    public JwtFilter(JwtUtil jwtUtil, RoleVersionRegistry roleVersionRegistry, RouteAccessTable routeAccessTable,
+                     ErrorResponseCache errorResponseCache) {
+        this.jwtUtil = jwtUtil;
+        this.roleVersionRegistry = roleVersionRegistry;
+        this.routeAccessTable = routeAccessTable;
+        this.errorResponseCache = errorResponseCache;
+        // 거절 응답 본문은 미리 직렬화해 둡니다.
+        errorResponseCache.register(HttpStatus.BAD_REQUEST, TOKEN_REQUIRED_MESSAGE);
+        errorResponseCache.register(HttpStatus.BAD_REQUEST, TOKEN_MALFORMED_MESSAGE);
+        errorResponseCache.register(HttpStatus.UNAUTHORIZED, ROLE_CHANGED_MESSAGE);
+        errorResponseCache.register(HttpStatus.FORBIDDEN, ADMIN_REQUIRED_MESSAGE);
+        errorResponseCache.register(HttpStatus.UNAUTHORIZED, INVALID_SIGNATURE_MESSAGE);
+        errorResponseCache.register(HttpStatus.UNAUTHORIZED, EXPIRED_MESSAGE);
+        errorResponseCache.register(HttpStatus.BAD_REQUEST, UNSUPPORTED_MESSAGE);
+        errorResponseCache.register(HttpStatus.BAD_REQUEST, INVALID_MESSAGE);
+    }
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -30,9 +64,9 @@ public class JwtFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String url = httpRequest.getRequestURI();
+        AccessLevel accessLevel = routeAccessTable.resolve(httpRequest.getMethod(), RequestPaths.lookupPath(httpRequest));
 
-        if (url.startsWith("/auth")) {
+        if (accessLevel == AccessLevel.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
@@ -41,50 +75,58 @@ public class JwtFilter implements Filter {
 
         if (bearerJwt == null) {
             // 토큰이 없는 경우 400을 반환합니다.
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다.");
+            errorResponseCache.write(httpResponse, HttpStatus.BAD_REQUEST, TOKEN_REQUIRED_MESSAGE);
             return;
         }
 
         String jwt = jwtUtil.substringToken(bearerJwt);
 
+        AuthUser authUser;
         try {
             // JWT 유효성 검사와 claims 추출
             Claims claims = jwtUtil.extractClaims(jwt);
             if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+                errorResponseCache.write(httpResponse, HttpStatus.BAD_REQUEST, TOKEN_MALFORMED_MESSAGE);
                 return;
             }
 
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            long userId = Long.parseLong(claims.getSubject());
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
-
-            if (url.startsWith("/admin")) {
-                // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
-                    httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
-                }
-                chain.doFilter(request, response);
+            // 관리자가 권한을 변경한 이후에는 이전 권한으로 발급된 토큰을 거부합니다.
+            Integer roleVersion = claims.get("roleVersion", Integer.class);
+            if (roleVersionRegistry.isStale(userId, roleVersion == null ? 0 : roleVersion)) {
+                errorResponseCache.write(httpResponse, HttpStatus.UNAUTHORIZED, ROLE_CHANGED_MESSAGE);
                 return;
             }
 
-            chain.doFilter(request, response);
+            // 관리자 권한이 없는 경우 403을 반환합니다.
+            if (accessLevel == AccessLevel.ADMIN && userRole != UserRole.ADMIN) {
+                errorResponseCache.write(httpResponse, HttpStatus.FORBIDDEN, ADMIN_REQUIRED_MESSAGE);
+                return;
+            }
+
+            authUser = new AuthUser(userId, claims.get("email", String.class), userRole);
         } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+            rejectionLog.warn("invalid-signature", "Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+            errorResponseCache.write(httpResponse, HttpStatus.UNAUTHORIZED, INVALID_SIGNATURE_MESSAGE);
+            return;
         } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+            rejectionLog.warn("expired", "Expired JWT token, 만료된 JWT token 입니다.");
+            errorResponseCache.write(httpResponse, HttpStatus.UNAUTHORIZED, EXPIRED_MESSAGE);
+            return;
         } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+            rejectionLog.warn("unsupported", "Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+            errorResponseCache.write(httpResponse, HttpStatus.BAD_REQUEST, UNSUPPORTED_MESSAGE);
+            return;
         } catch (Exception e) {
-            log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+            rejectionLog.error("invalid", "Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
+            errorResponseCache.write(httpResponse, HttpStatus.BAD_REQUEST, INVALID_MESSAGE);
+            return;
         }
+
+        httpRequest.setAttribute(AuthUser.ATTRIBUTE, authUser);
+        chain.doFilter(request, response);
     }
 
     @Override
@@ -0,0 +1,21 @@
+package org.example.expert.config;
+
+/**
+ * 수 분 동안 실행될 수 있는 관리자 일괄 처리 API (/admin/.../bulk).
+ * 일반 요청 기준의 deadline, 쿼리 예산, 적응형 한도의 RTT 표본에서 제외한다.
+ */
+public final class LongRunningRoutes {
+
+    private static final String ADMIN_PREFIX = "/admin/";
+    private static final String BULK_SUFFIX = "/bulk";
+
+    private LongRunningRoutes() {
+    }
+
+    /**
+     * uri 는 RequestPaths.lookupPath 로 정규화한 경로
+     */
+    public static boolean matches(String uri) {
+        return uri.startsWith(ADMIN_PREFIX) && uri.endsWith(BULK_SUFFIX);
+    }
+}
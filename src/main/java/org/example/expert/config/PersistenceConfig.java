@@ -1,9 +1,26 @@
 package org.example.expert.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // pool 은 첫 connection 을 얻을 때 시작되므로 초기화 전에 설정해 둔다.
+    @Bean
+    public static BeanPostProcessor hikariExceptionOverridePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource && hikariDataSource.getExceptionOverrideClassName() == null) {
+                    hikariDataSource.setExceptionOverrideClassName(QueryTimeoutExceptionOverride.class.getName());
+                }
+                return bean;
+            }
+        };
+    }
 }
@@ -0,0 +1,26 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.SQLExceptionOverride;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Set;
+
+/**
+ * Hikari 는 SQLTimeoutException 을 connection 장애로 보고 connection 을 버린다.
+ * 요청 deadline 으로 줄인 query timeout 에 걸려 statement 만 취소된 경우에는 connection 이 멀쩡하므로,
+ * 버리지 않고 rollback 후 pool 로 돌려보내도록 한다.
+ */
+public class QueryTimeoutExceptionOverride implements SQLExceptionOverride {
+
+    // H2, PostgreSQL 의 statement 취소(57014)와 MySQL 의 query 중단(70100)
+    private static final Set<String> CANCELED_STATES = Set.of("57014", "70100");
+
+    // SQLExceptionOverride.Override 가 java.lang.Override 를 가리므로 @Override 는 붙이지 않는다.
+    public Override adjudicate(SQLException sqlException) {
+        if (sqlException instanceof SQLTimeoutException && CANCELED_STATES.contains(sqlException.getSQLState())) {
+            return Override.DO_NOT_EVICT;
+        }
+        return Override.CONTINUE_EVICT;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 key 의 로그를 interval 당 한 번만 남기고, 그 사이에 생략된 건수를 함께 기록한다.
+ * 잘못된 토큰이 대량으로 들어와도 로그 출력이 CPU 를 차지하지 않도록 하기 위해 사용한다.
+ * key 는 고정된 문자열만 사용해야 한다.
+ */
+public class RateLimitedLogger {
+
+    private final Logger log;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public RateLimitedLogger(Logger log, Duration interval) {
+        this.log = log;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void warn(String key, String message) {
+        long suppressed = tryAcquire(key);
+        if (suppressed >= 0) {
+            log.warn("{} (최근 생략된 로그 {}건)", message, suppressed);
+        }
+    }
+
+    public void error(String key, String message, Throwable e) {
+        long suppressed = tryAcquire(key);
+        if (suppressed >= 0) {
+            log.error("{} (최근 생략된 로그 {}건)", message, suppressed, e);
+        }
+    }
+
+    /**
+     * 로그를 남겨도 되면 그동안 생략된 건수를, 아니면 -1 을 반환한다.
+     */
+    private long tryAcquire(String key) {
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        long now = System.nanoTime();
+        long next = window.nextAllowedAt.get();
+        if (now - next >= 0 && window.nextAllowedAt.compareAndSet(next, now + intervalNanos)) {
+            return window.suppressed.sumThenReset();
+        }
+        window.suppressed.increment();
+        return -1;
+    }
+
+    private static final class Window {
+        private final AtomicLong nextAllowedAt = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+    }
+}
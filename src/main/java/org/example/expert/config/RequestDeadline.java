@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 스레드에서 처리 중인 요청의 deadline (System.nanoTime 기준).
+ * DeadlineFilter 가 요청마다 설정하고, JDBC statement 와 외부 API 호출은 남은 시간을 timeout 으로 쓴다.
+ * 요청 밖(스케줄러, audit writer 등)에서는 deadline 이 없다.
+ */
+public final class RequestDeadline {
+
+    public static final long NONE = Long.MAX_VALUE;
+
+    private static final ThreadLocal<long[]> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void begin(long timeoutNanos) {
+        DEADLINE.set(new long[]{System.nanoTime() + timeoutNanos});
+    }
+
+    public static void end() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * deadline 까지 남은 시간(ns). 이미 지났으면 0 이하, deadline 이 없으면 NONE
+     */
+    public static long remainingNanos() {
+        long[] deadline = DEADLINE.get();
+        return deadline == null ? NONE : deadline[0] - System.nanoTime();
+    }
+
+    public static long remainingMillis() {
+        long remaining = remainingNanos();
+        return remaining == NONE ? NONE : TimeUnit.NANOSECONDS.toMillis(remaining);
+    }
+
+    public static boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    public static void check() {
+        if (isExpired()) {
+            throw new DeadlineExceededException();
+        }
+    }
+}
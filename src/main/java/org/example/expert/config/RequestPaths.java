@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+
+/**
+ * 필터가 라우트를 판단할 때 쓰는 요청 경로. getRequestURI() 는 디코딩되지 않고 ';' 매트릭스 파라미터를 포함하지만
+ * Spring MVC 는 세그먼트마다 ';' 뒤를 떼고 디코딩한 값으로 핸들러를 찾는다.
+ * 원본 URI 로 판단하면 /admin;x=1/users/1 처럼 MVC 는 관리자 핸들러로 보내는 요청을 다른 라우트로 보게 되므로,
+ * 필터도 MVC 와 같은 방식으로 정규화한 경로를 쓴다.
+ */
+public final class RequestPaths {
+
+    private static final String ATTRIBUTE = RequestPaths.class.getName() + ".lookupPath";
+
+    private RequestPaths() {
+    }
+
+    /**
+     * 세그먼트마다 매트릭스 파라미터를 떼고 디코딩한 경로 (context path 제외). 요청 속성에 캐시해 필터들이 함께 쓴다.
+     */
+    public static String lookupPath(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof String path) {
+            return path;
+        }
+        String path = normalize(request.getRequestURI(), request.getContextPath());
+        request.setAttribute(ATTRIBUTE, path);
+        return path;
+    }
+
+    static String normalize(String requestUri, String contextPath) {
+        RequestPath requestPath = RequestPath.parse(requestUri, contextPath);
+        StringBuilder path = new StringBuilder(requestUri.length());
+        for (PathContainer.Element element : requestPath.pathWithinApplication().elements()) {
+            if (element instanceof PathContainer.PathSegment segment) {
+                path.append('/').append(segment.valueToMatch());
+            }
+        }
+        return path.isEmpty() ? "/" : path.toString();
+    }
+}
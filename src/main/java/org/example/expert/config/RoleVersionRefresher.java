@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.UserRoleVersionDto;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 다른 노드에서 변경된 권한 버전을 users 테이블에서 주기적으로 읽어 RoleVersionRegistry 에 반영한다.
+ * 시작 시 한 번 전체 버전을 적재하고, 이후에는 modifiedAt 인덱스로 변경분만 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleVersionRefresher {
+
+    private final UserRepository userRepository;
+    private final RoleVersionRegistry roleVersionRegistry;
+
+    // 노드 간 시계 오차와 커밋 지연을 감안해 이전 조회 시각보다 조금 앞에서부터 다시 읽는다.
+    @Value("${jwt.role-version.refresh-overlap-ms:5000}")
+    private long refreshOverlapMs;
+
+    private volatile LocalDateTime lastRefreshedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        apply(userRepository.findAllRoleVersions());
+        lastRefreshedAt = startedAt;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.role-version.refresh-interval-ms:5000}",
+            initialDelayString = "${jwt.role-version.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (lastRefreshedAt == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            apply(userRepository.findRoleVersionsModifiedSince(lastRefreshedAt.minusNanos(refreshOverlapMs * 1_000_000)));
+            lastRefreshedAt = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("권한 버전 갱신에 실패했습니다. 다음 주기에 다시 시도합니다. cause={}", e.toString());
+        }
+    }
+
+    private void apply(List<UserRoleVersionDto> versions) {
+        for (UserRoleVersionDto version : versions) {
+            roleVersionRegistry.update(version.getId(), version.getRoleVersion());
+        }
+    }
+}
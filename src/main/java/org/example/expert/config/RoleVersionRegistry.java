@@ -0,0 +1,191 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.dto.UserRoleVersionDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저별 권한 버전(userId -> roleVersion)을 메모리에 보관한다.
+ * JwtFilter 는 매 요청마다 토큰의 roleVersion 과 이 값을 비교하므로, 조회는 DB 접근 없이
+ * long -> int open addressing 테이블에서 낙관적 읽기로 처리한다.
+ * 등록되지 않은 유저의 버전은 0 이다.
+ */
+@Component
+public class RoleVersionRegistry {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final StampedLock lock = new StampedLock();
+    private Table table = new Table(INITIAL_CAPACITY);
+
+    public int currentVersion(long userId) {
+        long stamp = lock.tryOptimisticRead();
+        int version = table.get(userId);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                version = table.get(userId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return version;
+    }
+
+    public boolean isStale(long userId, int tokenVersion) {
+        return tokenVersion < currentVersion(userId);
+    }
+
+    /**
+     * 버전은 증가만 하므로 더 작은 값이 들어오면 무시한다.
+     */
+    public void update(long userId, int version) {
+        long stamp = lock.writeLock();
+        try {
+            if (table.shouldGrow()) {
+                table = table.grow();
+            }
+            table.putMax(userId, version);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 여러 유저의 버전을 write lock 한 번으로 반영한다.
+     */
+    public void updateAll(Collection<UserRoleVersionDto> versions) {
+        long stamp = lock.writeLock();
+        try {
+            for (UserRoleVersionDto version : versions) {
+                if (table.shouldGrow()) {
+                    table = table.grow();
+                }
+                table.putMax(version.getId(), version.getRoleVersion());
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 DB 에 없는 버전으로 토큰이 거부되므로, 커밋 이후에 반영한다.
+     */
+    public void updateAfterCommit(long userId, int version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(userId, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(userId, version);
+            }
+        });
+    }
+
+    public void updateAllAfterCommit(Collection<UserRoleVersionDto> versions) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateAll(versions);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateAll(versions);
+            }
+        });
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return table.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * key 0 은 빈 슬롯 표시로 사용하므로 별도 필드에 보관한다.
+     * load factor 를 0.5 이하로 유지해 탐색이 항상 빈 슬롯에서 끝나도록 한다.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final int[] versions;
+        private final int mask;
+        private int size;
+        private boolean hasZeroKey;
+        private int zeroKeyVersion;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.versions = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int get(long key) {
+            if (key == 0) {
+                return hasZeroKey ? zeroKeyVersion : 0;
+            }
+            int index = mix(key) & mask;
+            long current;
+            while ((current = keys[index]) != 0) {
+                if (current == key) {
+                    return versions[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return 0;
+        }
+
+        private void putMax(long key, int version) {
+            if (key == 0) {
+                if (!hasZeroKey) {
+                    hasZeroKey = true;
+                    size++;
+                }
+                zeroKeyVersion = Math.max(zeroKeyVersion, version);
+                return;
+            }
+            int index = mix(key) & mask;
+            long current;
+            while ((current = keys[index]) != 0) {
+                if (current == key) {
+                    versions[index] = Math.max(versions[index], version);
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            versions[index] = version;
+            keys[index] = key;
+            size++;
+        }
+
+        private boolean shouldGrow() {
+            return (size + 1) * 2 > keys.length;
+        }
+
+        private Table grow() {
+            Table grown = new Table(keys.length << 1);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    grown.putMax(keys[i], versions[i]);
+                }
+            }
+            if (hasZeroKey) {
+                grown.putMax(0, zeroKeyVersion);
+            }
+            return grown;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
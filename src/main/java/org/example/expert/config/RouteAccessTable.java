@@ -0,0 +1,175 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.annotation.Access;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 핸들러에 선언된 @Access 를 시작 시점에 URL 세그먼트 트리로 컴파일한다.
+ * JwtFilter 는 요청마다 문자열 비교 대신 이 트리를 세그먼트 수만큼만 탐색한다.
+ * 매핑되지 않은 URL 은 AUTHENTICATED 로, /admin 아래는 ADMIN 으로 취급한다.
+ * uri 는 원본 getRequestURI() 가 아니라 MVC 와 같이 정규화한 경로 (RequestPaths.lookupPath) 여야 한다.
+ */
+@Component
+public class RouteAccessTable implements SmartInitializingSingleton {
+
+    private static final RequestMethod[] METHODS = RequestMethod.values();
+    private static final String ADMIN_SEGMENT = "admin";
+
+    private final ApplicationContext applicationContext;
+    private volatile Node root = new Node();
+
+    public RouteAccessTable(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerMapping handlerMapping =
+                applicationContext.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        compile(handlerMapping.getHandlerMethods());
+    }
+
+    public void compile(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        Node compiled = new Node();
+        handlerMethods.forEach((info, handlerMethod) -> {
+            AccessLevel accessLevel = accessLevelOf(handlerMethod);
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            for (String pattern : info.getPatternValues()) {
+                register(compiled, pattern, methods, accessLevel);
+            }
+        });
+        root = compiled;
+    }
+
+    public void register(String pattern, Set<RequestMethod> methods, AccessLevel accessLevel) {
+        register(root, pattern, methods, accessLevel);
+    }
+
+    /**
+     * 요청 URI 와 일치하는 핸들러의 URL 패턴 (예: /todos/{todoId}), 없으면 null
+     */
+    public String patternOf(String uri) {
+        Node leaf = root.match(uri, 0);
+        return leaf == null ? null : leaf.pattern;
+    }
+
+    public AccessLevel resolve(String method, String uri) {
+        Node leaf = root.match(uri, 0);
+        AccessLevel accessLevel = leaf == null ? null : leaf.accessLevelOf(method);
+        if (accessLevel != null) {
+            return accessLevel;
+        }
+        // 테이블과 MVC 의 매칭이 어긋나더라도 관리자 경로는 관리자 권한을 요구하도록 닫힌 쪽으로 판단한다.
+        return isAdminPath(uri) ? AccessLevel.ADMIN : AccessLevel.AUTHENTICATED;
+    }
+
+    private static boolean isAdminPath(String uri) {
+        int start = 0;
+        while (start < uri.length() && uri.charAt(start) == '/') {
+            start++;
+        }
+        return uri.startsWith(ADMIN_SEGMENT, start)
+                && (start + ADMIN_SEGMENT.length() == uri.length() || uri.charAt(start + ADMIN_SEGMENT.length()) == '/');
+    }
+
+    private static void register(Node root, String pattern, Set<RequestMethod> methods, AccessLevel accessLevel) {
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            node = node.child(segment);
+        }
+        node.pattern = pattern;
+        node.put(methods, accessLevel);
+    }
+
+    private static AccessLevel accessLevelOf(HandlerMethod handlerMethod) {
+        Access access = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Access.class);
+        if (access == null) {
+            access = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Access.class);
+        }
+        return access == null ? AccessLevel.AUTHENTICATED : access.value();
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        // {userId} 처럼 어떤 세그먼트와도 일치하는 자식
+        private Node variable;
+        private AccessLevel[] byMethod;
+        private AccessLevel anyMethod;
+        private String pattern;
+
+        private Node child(String segment) {
+            if (segment.startsWith("{") || segment.startsWith("*")) {
+                if (variable == null) {
+                    variable = new Node();
+                }
+                return variable;
+            }
+            return literals.computeIfAbsent(segment, s -> new Node());
+        }
+
+        private void put(Set<RequestMethod> methods, AccessLevel accessLevel) {
+            if (methods.isEmpty()) {
+                anyMethod = accessLevel;
+                return;
+            }
+            if (byMethod == null) {
+                byMethod = new AccessLevel[METHODS.length];
+            }
+            for (RequestMethod method : methods) {
+                byMethod[method.ordinal()] = accessLevel;
+            }
+        }
+
+        private boolean isLeaf() {
+            return byMethod != null || anyMethod != null;
+        }
+
+        private AccessLevel accessLevelOf(String method) {
+            if (byMethod != null) {
+                RequestMethod requestMethod = RequestMethod.resolve(method);
+                if (requestMethod != null && byMethod[requestMethod.ordinal()] != null) {
+                    return byMethod[requestMethod.ordinal()];
+                }
+            }
+            return anyMethod;
+        }
+
+        // 리터럴 세그먼트를 먼저 시도하고, 실패하면 변수 세그먼트로 되돌아가 다시 탐색한다.
+        private Node match(String uri, int from) {
+            int start = from;
+            while (start < uri.length() && uri.charAt(start) == '/') {
+                start++;
+            }
+            if (start >= uri.length()) {
+                return isLeaf() ? this : null;
+            }
+            int end = uri.indexOf('/', start);
+            if (end < 0) {
+                end = uri.length();
+            }
+            Node literal = literals.get(uri.substring(start, end));
+            if (literal != null) {
+                Node matched = literal.match(uri, end);
+                if (matched != null) {
+                    return matched;
+                }
+            }
+            return variable == null ? null : variable.match(uri, end);
+        }
+    }
+}
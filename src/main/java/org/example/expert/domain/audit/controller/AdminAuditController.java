@@ -0,0 +1,35 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.example.expert.domain.audit.service.AdminAuditService;
+import org.example.expert.domain.common.annotation.Access;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Access(AccessLevel.ADMIN)
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private final AdminAuditService adminAuditService;
+
+    @GetMapping("/admin/audits")
+    public ResponseEntity<CursorResponse<AdminAuditResponse>> getAudits(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(adminAuditService.getAudits(userId, cursor, size));
+    }
+
+    @GetMapping("/admin/audits/stats")
+    public ResponseEntity<AdminAuditStatsResponse> getStats() {
+        return ResponseEntity.ok(adminAuditService.getStats());
+    }
+}
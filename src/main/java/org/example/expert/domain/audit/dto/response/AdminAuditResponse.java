@@ -0,0 +1,25 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditResponse {
+
+    private final Long id;
+    private final Long userId;
+    private final String requestMethod;
+    private final String requestUri;
+    private final String handler;
+    private final LocalDateTime requestedAt;
+
+    public AdminAuditResponse(Long id, Long userId, String requestMethod, String requestUri, String handler, LocalDateTime requestedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.requestMethod = requestMethod;
+        this.requestUri = requestUri;
+        this.handler = handler;
+        this.requestedAt = requestedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class AdminAuditStatsResponse {
+
+    private final long queued;
+    private final long dropped;
+    private final long written;
+    private final long failed;
+
+    public AdminAuditStatsResponse(long queued, long dropped, long written, long failed) {
+        this.queued = queued;
+        this.dropped = dropped;
+        this.written = written;
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AdminAuditWriter 가 JDBC batch 로 적재하므로, 이 엔티티는 조회와 스키마 정의에만 사용한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_audit", indexes = {
+        @Index(name = "idx_admin_audit_user_id", columnList = "userId, id"),
+        @Index(name = "idx_admin_audit_requested_at", columnList = "requestedAt")
+})
+public class AdminAudit {
+
+    public static final int REQUEST_URI_LENGTH = 255;
+    public static final int HANDLER_LENGTH = 255;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long userId;
+    @Column(length = 10)
+    private String requestMethod;
+    @Column(length = REQUEST_URI_LENGTH)
+    private String requestUri;
+    @Column(length = HANDLER_LENGTH)
+    private String handler;
+    private LocalDateTime requestedAt;
+}
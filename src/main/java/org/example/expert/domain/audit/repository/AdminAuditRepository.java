@@ -0,0 +1,18 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface AdminAuditRepository extends JpaRepository<AdminAudit, Long> {
+
+    @Query("SELECT a FROM AdminAudit a WHERE a.id < :cursor ORDER BY a.id DESC")
+    List<AdminAudit> findPageBefore(@Param("cursor") long cursor, Pageable pageable);
+
+    @Query("SELECT a FROM AdminAudit a WHERE a.userId = :userId AND a.id < :cursor ORDER BY a.id DESC")
+    List<AdminAudit> findPageByUserIdBefore(@Param("userId") long userId, @Param("cursor") long cursor, Pageable pageable);
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.example.expert.domain.audit.repository.AdminAuditRepository;
+import org.example.expert.domain.audit.writer.AdminAuditWriter;
+import org.example.expert.domain.audit.writer.AuditEventBuffer;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminAuditService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AdminAuditRepository adminAuditRepository;
+    private final AuditEventBuffer auditEventBuffer;
+    private final AdminAuditWriter adminAuditWriter;
+
+    public CursorResponse<AdminAuditResponse> getAudits(Long userId, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        // 다음 페이지 존재 여부를 확인하기 위해 하나 더 조회한다.
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<AdminAudit> audits = userId == null
+                ? adminAuditRepository.findPageBefore(before, limit)
+                : adminAuditRepository.findPageByUserIdBefore(userId, before, limit);
+
+        List<AdminAuditResponse> dtoList = audits.stream()
+                .map(audit -> new AdminAuditResponse(
+                        audit.getId(),
+                        audit.getUserId(),
+                        audit.getRequestMethod(),
+                        audit.getRequestUri(),
+                        audit.getHandler(),
+                        audit.getRequestedAt()
+                ))
+                .toList();
+        return CursorResponse.of(dtoList, size, AdminAuditResponse::getId);
+    }
+
+    public AdminAuditStatsResponse getStats() {
+        return new AdminAuditStatsResponse(
+                auditEventBuffer.size(),
+                auditEventBuffer.dropped(),
+                adminAuditWriter.written(),
+                adminAuditWriter.failed()
+        );
+    }
+}
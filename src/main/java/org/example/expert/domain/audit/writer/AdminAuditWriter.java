@@ -0,0 +1,139 @@
+package org.example.expert.domain.audit.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AuditEventBuffer 를 비워 admin_audit 테이블에 JDBC batch 로 적재하는 백그라운드 writer.
+ * 요청 스레드는 buffer 에 넣기만 하므로 DB 지연의 영향을 받지 않는다.
+ * 종료 시에는 남은 이벤트를 모두 기록한 뒤 멈춘다.
+ * (MySQL 에서 실제 multi-row insert 가 되려면 JDBC URL 에 rewriteBatchedStatements=true 가 필요하다.)
+ * spring.threads.virtual.enabled 가 켜져 있으면 writer 도 virtual thread 에서 실행한다.
+ */
+@Slf4j
+@Component
+public class AdminAuditWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO admin_audit " +
+            "(user_id, request_method, request_uri, handler, requested_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final AuditEventBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long idleWaitNanos;
+    private final boolean virtualThreads;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AdminAuditWriter(AuditEventBuffer buffer,
+                            JdbcTemplate jdbcTemplate,
+                            MetricsRegistry metricsRegistry,
+                            @Value("${audit.batch-size:500}") int batchSize,
+                            @Value("${audit.flush-interval-ms:200}") long flushIntervalMs,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.buffer = buffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.idleWaitNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.virtualThreads = virtualThreads;
+
+        metricsRegistry.gauge("admin_audit_queued", "", "Audit events waiting to be written", buffer::size);
+        metricsRegistry.counter("admin_audit_dropped_total", "", "Audit events dropped because the buffer was full", buffer::dropped);
+        metricsRegistry.counter("admin_audit_written_total", "", "Audit events written to admin_audit", written::sum);
+        metricsRegistry.counter("admin_audit_failed_total", "", "Audit events that failed to be written", failed::sum);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        worker = builder.name("admin-audit-writer").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            if (flushOnce() < batchSize) {
+                LockSupport.parkNanos(idleWaitNanos);
+            }
+        }
+        // 종료 전 남은 이벤트 기록
+        while (flushOnce() > 0) {
+            // 비워질 때까지 반복
+        }
+    }
+
+    int flushOnce() {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(batchSize, 64));
+        buffer.drain(batch::add, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setObject(1, event.getUserId());
+                ps.setString(2, event.getRequestMethod());
+                ps.setString(3, event.getRequestUri());
+                ps.setString(4, event.getHandler());
+                ps.setTimestamp(5, Timestamp.valueOf(event.getRequestedAt()));
+            });
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("관리자 접근 기록 {}건의 batch 저장에 실패해 한 건씩 다시 저장합니다. cause={}", batch.size(), e.toString());
+            writeEach(batch);
+        }
+        return batch.size();
+    }
+
+    // batch 는 한 행만 잘못되어도 전체가 실패하므로, 저장할 수 없는 기록만 버린다.
+    private void writeEach(List<AuditEvent> batch) {
+        for (AuditEvent event : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, event.getUserId(), event.getRequestMethod(), event.getRequestUri(),
+                        event.getHandler(), Timestamp.valueOf(event.getRequestedAt()));
+                written.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("관리자 접근 기록을 저장하지 못했습니다. uri={}, cause={}", event.getRequestUri(), e.toString());
+            }
+        }
+    }
+
+    public long written() {
+        return written.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.audit.writer;
+
+import lombok.Getter;
+import org.example.expert.domain.audit.entity.AdminAudit;
+
+import java.time.LocalDateTime;
+
+/**
+ * URI 는 클라이언트가 정하는 값이라 컬럼 길이를 넘을 수 있다. 넘는 부분은 잘라서 보관해,
+ * 긴 URI 하나 때문에 같은 batch 의 기록이 함께 실패하지 않게 한다.
+ */
+@Getter
+public class AuditEvent {
+
+    private final Long userId;
+    private final String requestMethod;
+    private final String requestUri;
+    private final String handler;
+    private final LocalDateTime requestedAt;
+
+    public AuditEvent(Long userId, String requestMethod, String requestUri, String handler, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.requestMethod = requestMethod;
+        this.requestUri = truncate(requestUri, AdminAudit.REQUEST_URI_LENGTH);
+        this.handler = truncate(handler, AdminAudit.HANDLER_LENGTH);
+        this.requestedAt = requestedAt;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        // 서로게이트 쌍의 가운데에서 자르지 않는다.
+        int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, end);
+    }
+}
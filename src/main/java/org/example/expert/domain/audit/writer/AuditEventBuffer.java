@@ -0,0 +1,90 @@
+package org.example.expert.domain.audit.writer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 요청 스레드(여러 producer)가 넣고 AdminAuditWriter(단일 consumer)가 꺼내는 고정 크기 ring buffer.
+ * 각 슬롯의 sequence 로 점유 여부를 판단하는 lock-free 구조이며, 가득 차면 기다리지 않고 버린 뒤 dropped 를 증가시킨다.
+ */
+@Component
+public class AuditEventBuffer {
+
+    private final AuditEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final LongAdder dropped = new LongAdder();
+
+    public AuditEventBuffer(@Value("${audit.buffer-capacity:8192}") int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AuditEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(AuditEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = event;
+                    // sequence 를 기록하는 순간 consumer 에게 slot 이 공개된다.
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * consumer 스레드에서만 호출해야 한다.
+     */
+    public int drain(Consumer<AuditEvent> consumer, int maxEvents) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            AuditEvent event = slots[index];
+            slots[index] = null;
+            sequences.set(index, position + slots.length);
+            position++;
+            drained++;
+            consumer.accept(event);
+        }
+        head = position;
+        return drained;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long size() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
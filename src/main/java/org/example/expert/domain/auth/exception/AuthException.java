@@ -3,6 +3,6 @@ package org.example.expert.domain.auth.exception;
 public class AuthException extends RuntimeException {
 
     public AuthException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -12,6 +12,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailPrefixIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailPrefixIndex emailPrefixIndex;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -50,8 +52,9 @@ public class AuthService {
                 userRole
         );
         User savedUser = userRepository.save(newUser);
+        emailPrefixIndex.addAfterCommit(savedUser.getId(), savedUser.getEmail());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getRoleVersion());
 
         return new SignupResponse(bearerToken);
     }
@@ -65,7 +68,7 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getRoleVersion());
 
         return new SigninResponse(bearerToken);
     }
@@ -2,16 +2,21 @@ package org.example.expert.domain.comment.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.annotation.Access;
+import org.example.expert.domain.common.annotation.AuditedAccess;
+import org.example.expert.domain.common.enums.AccessLevel;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Access(AccessLevel.ADMIN)
 @RequiredArgsConstructor
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
 
+    @AuditedAccess
     @DeleteMapping("/admin/comments/{commentId}")
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
@@ -5,8 +5,10 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.TodoCommentsResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.annotation.Idempotent;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +21,7 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    @Idempotent
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
             @Auth AuthUser authUser,
@@ -32,4 +35,12 @@ public class CommentController {
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping("/comments")
+    public ResponseEntity<List<TodoCommentsResponse>> getCommentsByTodoIds(
+            @RequestParam List<Long> todoIds,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByTodoIds(todoIds, limit));
+    }
 }
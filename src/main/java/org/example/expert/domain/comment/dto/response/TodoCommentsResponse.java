@@ -0,0 +1,20 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class TodoCommentsResponse {
+
+    private final Long todoId;
+    private final long totalCount; // limit 과 무관한 todo 의 전체 댓글 수
+    private final List<CommentResponse> comments;
+
+    public TodoCommentsResponse(Long todoId, long totalCount) {
+        this.todoId = todoId;
+        this.totalCount = totalCount;
+        this.comments = new ArrayList<>();
+    }
+}
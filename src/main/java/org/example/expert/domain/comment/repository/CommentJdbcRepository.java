@@ -0,0 +1,59 @@
+package org.example.expert.domain.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.TodoCommentsResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 여러 todo 의 댓글을 todo 마다 앞에서부터 limit 개씩 한 번의 조회로 가져온다.
+ * JPQL 로는 그룹별 limit 을 표현할 수 없어 ROW_NUMBER() 윈도 함수를 쓰는 native SQL 로 실행한다.
+ * 작성자 join 은 limit 으로 잘라낸 뒤에만 수행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentJdbcRepository {
+
+    private static final String FIND_FIRST_BY_TODO_IDS_SQL = "SELECT c.todo_id, c.total, c.id, c.contents, u.id AS user_id, u.email " +
+            "FROM (SELECT id, contents, todo_id, user_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY todo_id ORDER BY id) AS rn, " +
+            "COUNT(*) OVER (PARTITION BY todo_id) AS total " +
+            "FROM comments WHERE todo_id IN (:todoIds)) c " +
+            "JOIN users u ON u.id = c.user_id " +
+            "WHERE c.rn <= :limit " +
+            "ORDER BY c.todo_id, c.rn";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 댓글이 있는 todo 만 todo id 순으로 담아 돌려준다.
+     */
+    public Map<Long, TodoCommentsResponse> findFirstByTodoIds(Collection<Long> todoIds, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("todoIds", todoIds)
+                .addValue("limit", limit);
+
+        Map<Long, TodoCommentsResponse> result = new LinkedHashMap<>();
+        jdbcTemplate.query(FIND_FIRST_BY_TODO_IDS_SQL, params, rs -> {
+            long todoId = rs.getLong("todo_id");
+            TodoCommentsResponse todoComments = result.get(todoId);
+            if (todoComments == null) {
+                todoComments = new TodoCommentsResponse(todoId, rs.getLong("total"));
+                result.put(todoId, todoComments);
+            }
+            todoComments.getComments().add(new CommentResponse(
+                    rs.getLong("id"),
+                    rs.getString("contents"),
+                    new UserResponse(rs.getLong("user_id"), rs.getString("email"))
+            ));
+        });
+        return result;
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.cachesync.CacheName;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,9 +12,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final CacheChangeLog cacheChangeLog;
 
+    /**
+     * 다른 노드의 댓글 목록 캐시도 지워지도록 같은 트랜잭션에서 댓글이 속한 todo 의 변경을 기록한다.
+     * 없는 댓글이면 deleteById 와 같이 아무것도 하지 않는다.
+     */
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findById(commentId).ifPresent(comment -> {
+            commentRepository.delete(comment);
+            cacheChangeLog.record(CacheName.TODO_COMMENTS, comment.getTodo().getId());
+        });
     }
 }
@@ -1,10 +1,14 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.cachesync.CacheName;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.TodoCommentsResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentJdbcRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -16,15 +20,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_TODO_IDS = 200;
+    private static final int MAX_LIMIT = 50;
+    private static final int IN_CHUNK_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final CommentJdbcRepository commentJdbcRepository;
+    private final CacheChangeLog cacheChangeLog;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -39,6 +53,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        cacheChangeLog.record(CacheName.TODO_COMMENTS, todoId);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -62,4 +77,34 @@ public class CommentService {
         }
         return dtoList;
     }
+
+    /**
+     * 여러 todo 의 댓글을 todo 마다 최대 limit 개씩 묶어서 가져온다. 입력이 IN_CHUNK_SIZE 를 넘으면 나눠서 조회한다.
+     * 결과는 요청한 todo 순서를 따르고, 댓글이 없는 todo 는 빈 목록으로 채운다.
+     */
+    public List<TodoCommentsResponse> getCommentsByTodoIds(List<Long> todoIds, int limit) {
+        if (todoIds.isEmpty() || todoIds.size() > MAX_TODO_IDS) {
+            throw new InvalidRequestException("todoIds 는 1개 이상 " + MAX_TODO_IDS + "개 이하여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit 은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        Set<Long> uniqueTodoIds = new LinkedHashSet<>(todoIds);
+        if (uniqueTodoIds.contains(null)) {
+            throw new InvalidRequestException("todoIds 에 빈 값이 포함되어 있습니다.");
+        }
+        List<Long> distinctTodoIds = new ArrayList<>(uniqueTodoIds);
+
+        Map<Long, TodoCommentsResponse> found = new HashMap<>();
+        for (int from = 0; from < distinctTodoIds.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = distinctTodoIds.subList(from, Math.min(from + IN_CHUNK_SIZE, distinctTodoIds.size()));
+            found.putAll(commentJdbcRepository.findFirstByTodoIds(chunk, limit));
+        }
+
+        List<TodoCommentsResponse> result = new ArrayList<>(distinctTodoIds.size());
+        for (Long todoId : distinctTodoIds) {
+            result.add(found.getOrDefault(todoId, new TodoCommentsResponse(todoId, 0)));
+        }
+        return result;
+    }
 }
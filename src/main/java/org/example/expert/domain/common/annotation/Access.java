@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.annotation;
+
+import org.example.expert.domain.common.enums.AccessLevel;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러의 접근 권한을 선언한다. 메서드에 선언된 값이 클래스에 선언된 값보다 우선하며,
+ * 선언되지 않은 핸들러는 AUTHENTICATED 로 취급한다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Access {
+    AccessLevel value();
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 선언된 핸들러에 접근하면 AdminAccessAOP 가 admin_audit 테이블에 접근 기록을 남긴다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AuditedAccess {
+}
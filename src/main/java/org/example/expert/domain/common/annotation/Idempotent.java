@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 핸들러에 선언한다.
+ * 같은 키로 다시 들어온 요청은 핸들러를 실행하지 않고 첫 요청의 응답을 그대로 돌려받는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -6,6 +6,9 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 public class AuthUser {
 
+    // JwtFilter 가 요청마다 한 번 생성해 request attribute 로 전달한다.
+    public static final String ATTRIBUTE = AuthUser.class.getName();
+
     private final Long id;
     private final String email;
     private final UserRole userRole;
@@ -0,0 +1,32 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지네이션 응답. nextCursor 가 null 이면 마지막 페이지이다.
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> items;
+    private final Long nextCursor;
+
+    public CursorResponse(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Long> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorResponse<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorResponse<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+}
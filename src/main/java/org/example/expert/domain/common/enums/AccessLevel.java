@@ -0,0 +1,10 @@
+package org.example.expert.domain.common.enums;
+
+public enum AccessLevel {
+    // 토큰 없이 접근 가능
+    PUBLIC,
+    // 유효한 토큰 필요 (기본값)
+    AUTHENTICATED,
+    // ADMIN 권한 필요
+    ADMIN
+}
@@ -1,7 +1,8 @@
 package org.example.expert.domain.common.exception;
 
 public class InvalidRequestException extends RuntimeException {
+    // 잘못된 요청은 정상적인 흐름이므로 stack trace 를 만들지 않는다.
     public InvalidRequestException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
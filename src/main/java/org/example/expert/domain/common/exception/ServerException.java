@@ -2,7 +2,13 @@ package org.example.expert.domain.common.exception;
 
 public class ServerException extends RuntimeException {
 
+    // 메시지만으로 원인을 알 수 있는 예외이므로 stack trace 를 만들지 않는다.
     public ServerException(String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    // 원인 예외가 있는 경우에는 stack trace 를 남긴다.
+    public ServerException(String message, Throwable cause) {
+        super(message, cause);
     }
 }
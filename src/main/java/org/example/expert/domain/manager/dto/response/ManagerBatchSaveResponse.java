@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagerBatchSaveResponse {
+
+    private final List<ManagerSaveResponse> managers;
+    // 이미 담당자로 등록되어 있어 건너뛴 유저 id
+    private final List<Long> alreadyAssignedUserIds;
+    // 존재하지 않아 건너뛴 유저 id
+    private final List<Long> notFoundUserIds;
+
+    public ManagerBatchSaveResponse(List<ManagerSaveResponse> managers, List<Long> alreadyAssignedUserIds, List<Long> notFoundUserIds) {
+        this.managers = managers;
+        this.alreadyAssignedUserIds = alreadyAssignedUserIds;
+        this.notFoundUserIds = notFoundUserIds;
+    }
+}
@@ -6,10 +6,23 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
+/**
+ * 같은 일정에 같은 담당자가 두 번 등록되지 않도록 (todo_id, user_id) unique 제약을 둔다.
+ * 제약이 생기기 전의 DB 에는 중복 행이 있을 수 있고, 그러면 ddl-auto=update 가 제약을 만들지 못한 채 넘어간다.
+ * 배포 전에 먼저 생긴 행만 남기고 지운 뒤 제약을 추가한다. (MySQL)
+ * <pre>
+ * DELETE m1 FROM managers m1
+ *   JOIN managers m2 ON m1.todo_id = m2.todo_id AND m1.user_id = m2.user_id AND m1.id > m2.id;
+ * ALTER TABLE managers ADD CONSTRAINT uk_managers_todo_user UNIQUE (todo_id, user_id);
+ * </pre>
+ */
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_managers_todo_user", columnNames = {"todo_id", "user_id"}),
+        // 유저가 담당한 일정 목록 (GET /users/me/managed-todos) 을 todo_id 순서로 range scan 하기 위한 역방향 인덱스
+        indexes = @Index(name = "idx_managers_user_todo", columnList = "user_id, todo_id"))
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
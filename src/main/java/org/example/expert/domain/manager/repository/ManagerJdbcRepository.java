@@ -0,0 +1,79 @@
+package org.example.expert.domain.manager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 담당자 등록용 JDBC insert. 일괄 등록은 batch 로, 단건 등록은 작성자 확인을 포함한 INSERT ... SELECT 한 번으로 실행한다.
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 batch 로 묶지 않으므로 JdbcTemplate 으로 직접 실행한다.
+ * JPA 트랜잭션과 같은 connection 을 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ManagerJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO managers (todo_id, user_id) VALUES (?, ?)";
+    private static final String INSERT_IF_OWNER_SQL = "INSERT INTO managers (todo_id, user_id) " +
+            "SELECT t.id, ? FROM todos t WHERE t.id = ? AND t.user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * todo 작성자가 ownerId 일 때만 담당자를 insert 하고 생성된 id 를 돌려준다. 조건이 맞지 않아 insert 되지 않으면 empty
+     */
+    public Optional<Long> insertIfOwner(long todoId, long ownerId, long userId) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_IF_OWNER_SQL, new String[]{"id"});
+            ps.setLong(1, userId);
+            ps.setLong(2, todoId);
+            ps.setLong(3, ownerId);
+            return ps;
+        }, keyHolder);
+        if (inserted == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(firstKey(keyHolder.getKeyList().get(0)));
+    }
+
+    /**
+     * userIds 를 한 번의 batch 로 insert 하고, 생성된 manager id 를 userIds 순서대로 돌려준다.
+     */
+    public List<Long> insertAll(long todoId, List<Long> userIds) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, todoId);
+                        ps.setLong(2, userIds.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return userIds.size();
+                    }
+                }, keyHolder);
+
+        List<Long> ids = new ArrayList<>(userIds.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(firstKey(keys));
+        }
+        return ids;
+    }
+
+    // 생성 키의 컬럼 이름은 드라이버마다 다르므로 (id, GENERATED_KEY 등) 첫 번째 값을 쓴다.
+    private static long firstKey(Map<String, Object> keys) {
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+}
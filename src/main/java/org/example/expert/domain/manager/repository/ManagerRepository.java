@@ -2,12 +2,25 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    /**
+     * todo 작성자가 userId 이고 manager 가 그 todo 에 속할 때만 삭제한다. 삭제된 행 수(0 또는 1)를 돌려준다.
+     */
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteByIdAndTodoIdAndTodoUserId(@Param("managerId") Long managerId, @Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findUserIdsByTodoIdAndUserIdIn(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
 }
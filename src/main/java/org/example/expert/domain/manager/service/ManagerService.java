@@ -1,24 +1,39 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.cachesync.CacheName;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.UserProfile;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserProfileCache;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,41 +43,98 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
-
+    private final ManagerJdbcRepository managerJdbcRepository;
+    private final UserProfileCache userProfileCache;
+    private final CacheChangeLog cacheChangeLog;
+
+    /**
+     * 작성자 확인과 insert 를 INSERT ... SELECT 한 번으로 처리한다. 담당자 유저는 UserProfileCache 에서 읽으므로
+     * 캐시에 있으면 statement 한 번으로 끝난다.
+     * insert 되지 않았을 때만 todo 를 조회해 실패 원인을 찾는다.
+     */
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
+        User user = User.fromAuthUser(authUser);
+        Optional<UserProfile> managerUser = userProfileCache.find(managerSaveRequest.getManagerUserId());
+
+        if (managerUser.isPresent() && !ObjectUtils.nullSafeEquals(user.getId(), managerUser.get().getId())) {
+            Optional<Long> managerId;
+            try {
+                managerId = managerJdbcRepository.insertIfOwner(todoId, user.getId(), managerUser.get().getId());
+            } catch (DuplicateKeyException e) {
+                // (todo_id, user_id) unique 제약
+                throw new InvalidRequestException("이미 등록된 담당자입니다.");
+            }
+            if (managerId.isPresent()) {
+                cacheChangeLog.record(CacheName.TODO_MANAGERS, todoId);
+                return new ManagerSaveResponse(
+                        managerId.get(),
+                        new UserResponse(managerUser.get().getId(), managerUser.get().getEmail())
+                );
+            }
+        }
+        return saveManagerChecked(user, todoId, managerUser);
+    }
+
+    /**
+     * 담당자를 한 번에 등록한다. 유저와 기존 담당자를 각각 IN 조회 한 번으로 확인하고,
+     * 존재하지 않거나 이미 등록된 유저는 건너뛴 뒤 나머지를 JDBC batch 한 번으로 insert 한다.
+     */
+    @Transactional
+    public ManagerBatchSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest managerBatchSaveRequest) {
         User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        /**
-         * 레벨 2-8 유닛 테스트 - 3
-         * 조건 : 테스트가 성공할 수 있도록 서비스 로직 수정
-         * 수정 : null인지 비교하는 if문 추가
-         */
-        if(todo.getUser() == null) {
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        if (!ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        Set<Long> requestedUserIds = new LinkedHashSet<>(managerBatchSaveRequest.getManagerUserIds());
+        if (requestedUserIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+        Map<Long, User> users = new HashMap<>();
+        for (User managerUser : userRepository.findAllById(requestedUserIds)) {
+            users.put(managerUser.getId(), managerUser);
+        }
+        Set<Long> assignedUserIds = users.isEmpty()
+                ? Set.of()
+                : new HashSet<>(managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, users.keySet()));
+
+        List<Long> newUserIds = new ArrayList<>();
+        List<Long> alreadyAssignedUserIds = new ArrayList<>();
+        List<Long> notFoundUserIds = new ArrayList<>();
+        for (Long userId : requestedUserIds) {
+            if (!users.containsKey(userId)) {
+                notFoundUserIds.add(userId);
+            } else if (assignedUserIds.contains(userId)) {
+                alreadyAssignedUserIds.add(userId);
+            } else {
+                newUserIds.add(userId);
+            }
+        }
 
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
-            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        List<Long> managerIds;
+        try {
+            managerIds = newUserIds.isEmpty() ? List.of() : managerJdbcRepository.insertAll(todoId, newUserIds);
+        } catch (DuplicateKeyException e) {
+            // 조회 이후 다른 요청이 같은 담당자를 먼저 등록한 경우
+            throw new InvalidRequestException("이미 등록된 담당자가 포함되어 있습니다. 다시 시도해주세요.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        if (!managerIds.isEmpty()) {
+            cacheChangeLog.record(CacheName.TODO_MANAGERS, todoId);
+        }
 
-        return new ManagerSaveResponse(
-                savedManagerUser.getId(),
-                new UserResponse(managerUser.getId(), managerUser.getEmail())
-        );
+        List<ManagerSaveResponse> managers = new ArrayList<>(newUserIds.size());
+        for (int i = 0; i < newUserIds.size(); i++) {
+            User managerUser = users.get(newUserIds.get(i));
+            managers.add(new ManagerSaveResponse(managerIds.get(i), new UserResponse(managerUser.getId(), managerUser.getEmail())));
+        }
+        return new ManagerBatchSaveResponse(managers, alreadyAssignedUserIds, notFoundUserIds);
     }
 
     public List<ManagerResponse> getManagers(long todoId) {
@@ -82,6 +154,10 @@ public class ManagerService {
         return dtoList;
     }
 
+    /**
+     * 작성자와 소속 일정을 조건으로 건 DELETE 한 번으로 삭제한다.
+     * 삭제되지 않았을 때만 기존과 같은 순서로 todo, 작성자, manager 를 조회해 같은 예외를 던진다.
+     */
     @Transactional
     public void deleteManager(long todoId, long managerId, AuthUser authUser) {
 
@@ -91,6 +167,11 @@ public class ManagerService {
          */
         User user = User.fromAuthUser(authUser);
 
+        if (managerRepository.deleteByIdAndTodoIdAndTodoUserId(managerId, todoId, user.getId()) == 1) {
+            cacheChangeLog.record(CacheName.TODO_MANAGERS, todoId);
+            return;
+        }
+
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
@@ -106,5 +187,48 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        cacheChangeLog.record(CacheName.TODO_MANAGERS, todoId);
+    }
+
+    // insert 되지 않은 경우: 기존과 같은 순서로 todo, 작성자, 담당자 유저를 확인해 같은 예외를 던진다.
+    // 모두 통과하면 (조회 사이에 일정이 바뀐 경우) JPA 로 저장한다.
+    private ManagerSaveResponse saveManagerChecked(User user, long todoId, Optional<UserProfile> foundManagerUser) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        /**
+         * 레벨 2-8 유닛 테스트 - 3
+         * 조건 : 테스트가 성공할 수 있도록 서비스 로직 수정
+         * 수정 : null인지 비교하는 if문 추가
+         */
+        if(todo.getUser() == null) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        if (!ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        UserProfile managerUser = foundManagerUser
+                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+
+        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        Manager newManagerUser = new Manager(userRepository.getReferenceById(managerUser.getId()), todo);
+        Manager savedManagerUser;
+        try {
+            savedManagerUser = managerRepository.save(newManagerUser);
+        } catch (DataIntegrityViolationException e) {
+            // (todo_id, user_id) unique 제약
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+        cacheChangeLog.record(CacheName.TODO_MANAGERS, todoId);
+
+        return new ManagerSaveResponse(
+                savedManagerUser.getId(),
+                new UserResponse(managerUser.getId(), managerUser.getEmail())
+        );
     }
 }
@@ -25,4 +25,9 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL 생성자 projection 용
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
 }
@@ -1,5 +1,6 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -20,4 +22,15 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    /**
+     * userId 가 담당자로 등록된 일정을 todo id 내림차순으로 cursor 이전부터 조회한다.
+     * managers(user_id, todo_id) 인덱스를 range scan 하고, 엔티티 대신 TodoResponse 로 바로 projection 한다.
+     */
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Manager m JOIN m.todo t JOIN t.user u " +
+            "WHERE m.user.id = :userId AND m.todo.id < :cursor " +
+            "ORDER BY m.todo.id DESC")
+    List<TodoResponse> findManagedBefore(@Param("userId") Long userId, @Param("cursor") long cursor, Pageable pageable);
 }
@@ -1,8 +1,11 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.cachesync.CacheName;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -17,13 +20,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final CacheChangeLog cacheChangeLog;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -38,6 +46,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        cacheChangeLog.record(CacheName.TODO, savedTodo.getId());
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -80,4 +89,14 @@ public class TodoService {
                 todo.getModifiedAt()
         );
     }
+
+    public CursorResponse<TodoResponse> getManagedTodos(AuthUser authUser, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        // 다음 페이지 존재 여부를 확인하기 위해 하나 더 조회한다.
+        List<TodoResponse> todos = todoRepository.findManagedBefore(authUser.getId(), before, PageRequest.of(0, size + 1));
+        return CursorResponse.of(todos, size, TodoResponse::getId);
+    }
 }
@@ -1,21 +1,66 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.Access;
+import org.example.expert.domain.common.annotation.AuditedAccess;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.AdminUserResponse;
+import org.example.expert.domain.user.dto.response.UserProvisionResponse;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserProvisioningService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @RestController
+@Access(AccessLevel.ADMIN)
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserProvisioningService userProvisioningService;
 
+    @AuditedAccess
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @AuditedAccess
+    @PatchMapping("/admin/users/roles")
+    public ResponseEntity<UserRoleBulkChangeResponse> changeUserRoles(@Valid @RequestBody UserRoleBulkChangeRequest userRoleBulkChangeRequest) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(userRoleBulkChangeRequest));
+    }
+
+    @GetMapping("/admin/users")
+    public ResponseEntity<CursorResponse<AdminUserResponse>> getUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userAdminService.getUsers(role, email, cursor, size));
+    }
+
+    /**
+     * 요청 본문: [{"email": ..., "password": ..., "userRole": ...}, ...]
+     */
+    @AuditedAccess
+    @PostMapping("/admin/users/bulk")
+    public ResponseEntity<UserProvisionResponse> provisionUsers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userProvisioningService.provision(request.getInputStream()));
+    }
 }
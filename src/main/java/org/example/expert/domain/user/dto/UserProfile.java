@@ -0,0 +1,18 @@
+package org.example.expert.domain.user.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+@Getter
+public class UserProfile {
+
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+
+    public UserProfile(Long id, String email, UserRole userRole) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto;
+
+import lombok.Getter;
+
+@Getter
+public class UserRoleVersionDto {
+
+    private final Long id;
+    private final int roleVersion;
+
+    public UserRoleVersionDto(Long id, int roleVersion) {
+        this.id = id;
+        this.roleVersion = roleVersion;
+    }
+}
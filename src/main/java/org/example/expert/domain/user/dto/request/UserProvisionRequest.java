@@ -0,0 +1,20 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProvisionRequest {
+
+    @NotBlank @Email
+    private String email;
+    @NotBlank
+    private String password;
+    @NotBlank
+    private String userRole;
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleBulkChangeRequest {
+
+    @NotBlank
+    private String role;
+    // userIds 와 emailDomain 중 하나만 지정한다.
+    @Size(max = 10_000)
+    private List<@NotNull Long> userIds;
+    private String emailDomain; // 예: example.com
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminUserResponse {
+
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+    private final int roleVersion;
+    private final LocalDateTime createdAt;
+
+    public AdminUserResponse(Long id, String email, UserRole userRole, int roleVersion, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+        this.roleVersion = roleVersion;
+        this.createdAt = createdAt;
+    }
+}
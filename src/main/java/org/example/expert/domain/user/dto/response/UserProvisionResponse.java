@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserProvisionResponse {
+
+    private final int created;
+    private final int duplicate;
+    private final int invalid;
+    // 요청 순서대로 레코드마다 하나씩
+    private final List<UserProvisionResult> results;
+
+    public UserProvisionResponse(int created, int duplicate, int invalid, List<UserProvisionResult> results) {
+        this.created = created;
+        this.duplicate = duplicate;
+        this.invalid = invalid;
+        this.results = results;
+    }
+}
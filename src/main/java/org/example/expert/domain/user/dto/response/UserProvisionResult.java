@@ -0,0 +1,37 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserProvisionResult {
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID
+    }
+
+    private final int index; // 요청 배열에서의 위치 (0부터)
+    private final String email;
+    private final Status status;
+    private final Long userId; // CREATED 일 때만
+    private final String message; // CREATED 가 아닐 때 사유
+
+    private UserProvisionResult(int index, String email, Status status, Long userId, String message) {
+        this.index = index;
+        this.email = email;
+        this.status = status;
+        this.userId = userId;
+        this.message = message;
+    }
+
+    public static UserProvisionResult created(int index, String email, long userId) {
+        return new UserProvisionResult(index, email, Status.CREATED, userId, null);
+    }
+
+    public static UserProvisionResult duplicate(int index, String email, String message) {
+        return new UserProvisionResult(index, email, Status.DUPLICATE, null, message);
+    }
+
+    public static UserProvisionResult invalid(int index, String email, String message) {
+        return new UserProvisionResult(index, email, Status.INVALID, null, message);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserRoleBulkChangeResponse {
+
+    // 실제로 권한이 바뀐 유저 수. 이미 같은 권한이었거나 존재하지 않는 유저는 세지 않는다.
+    private final int changed;
+
+    public UserRoleBulkChangeResponse(int changed) {
+        this.changed = changed;
+    }
+}
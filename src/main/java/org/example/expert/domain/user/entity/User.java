@@ -6,11 +6,18 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserProfileCacheListener;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@EntityListeners(UserProfileCacheListener.class)
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_modified_at", columnList = "modifiedAt"),
+        // 관리자 목록의 권한 필터: 권한별로 id 역순 keyset 탐색
+        @Index(name = "idx_users_role_id", columnList = "userRole, id")
+})
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,6 +27,10 @@ public class User extends Timestamped {
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 권한이 바뀔 때마다 증가하며, 이전 버전으로 발급된 토큰은 JwtFilter 에서 거부된다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int roleVersion;
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -42,6 +53,9 @@ public class User extends Timestamped {
     }
 
     public void updateRole(UserRole userRole) {
+        if (this.userRole != userRole) {
+            this.roleVersion++;
+        }
         this.userRole = userRole;
     }
 }
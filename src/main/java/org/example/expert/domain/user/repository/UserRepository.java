@@ -1,11 +1,88 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.user.dto.UserProfile;
+import org.example.expert.domain.user.dto.UserRoleVersionDto;
+import org.example.expert.domain.user.dto.response.AdminUserResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserProfile(u.id, u.email, u.userRole) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserProfile> findProfileById(@Param("id") long id);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserRoleVersionDto(u.id, u.roleVersion) " +
+            "FROM User u WHERE u.roleVersion > 0")
+    List<UserRoleVersionDto> findAllRoleVersions();
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserRoleVersionDto(u.id, u.roleVersion) " +
+            "FROM User u WHERE u.modifiedAt >= :since AND u.roleVersion > 0")
+    List<UserRoleVersionDto> findRoleVersionsModifiedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 이메일 검색 인덱스 적재: id 기준 keyset 으로 나눠 읽는다.
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<UserResponse> findResponsesAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.modifiedAt >= :since")
+    List<UserResponse> findResponsesModifiedSince(@Param("since") LocalDateTime since);
+
+    // 관리자 유저 목록: password 를 읽지 않도록 projection 으로 조회하고, id 기준 keyset 으로 페이지를 나눈다.
+    // emailPattern 은 LIKE 예약 문자를 '\' 로 escape 한 접두사 뒤에 '%' 를 붙인 값이다.
+    @Query("SELECT new org.example.expert.domain.user.dto.response.AdminUserResponse(u.id, u.email, u.userRole, u.roleVersion, u.createdAt) " +
+            "FROM User u WHERE u.id < :cursor ORDER BY u.id DESC")
+    List<AdminUserResponse> findAdminPageBefore(@Param("cursor") long cursor, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.AdminUserResponse(u.id, u.email, u.userRole, u.roleVersion, u.createdAt) " +
+            "FROM User u WHERE u.userRole = :userRole AND u.id < :cursor ORDER BY u.id DESC")
+    List<AdminUserResponse> findAdminPageByRoleBefore(@Param("userRole") UserRole userRole, @Param("cursor") long cursor, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.AdminUserResponse(u.id, u.email, u.userRole, u.roleVersion, u.createdAt) " +
+            "FROM User u WHERE u.email LIKE :emailPattern ESCAPE '\\' AND u.id < :cursor ORDER BY u.id DESC")
+    List<AdminUserResponse> findAdminPageByEmailPrefixBefore(@Param("emailPattern") String emailPattern, @Param("cursor") long cursor, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.AdminUserResponse(u.id, u.email, u.userRole, u.roleVersion, u.createdAt) " +
+            "FROM User u WHERE u.userRole = :userRole AND u.email LIKE :emailPattern ESCAPE '\\' AND u.id < :cursor ORDER BY u.id DESC")
+    List<AdminUserResponse> findAdminPageByRoleAndEmailPrefixBefore(@Param("userRole") UserRole userRole, @Param("emailPattern") String emailPattern, @Param("cursor") long cursor, Pageable pageable);
+
+    // 권한 일괄 변경: 바뀔 유저만 행 잠금을 걸어 읽은 뒤, 같은 트랜잭션에서 id IN 으로 UPDATE 한다.
+    // 잠근 행만 UPDATE 하므로 새 버전은 읽은 버전 + 1 이다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new org.example.expert.domain.user.dto.UserRoleVersionDto(u.id, u.roleVersion) " +
+            "FROM User u WHERE u.id IN :ids AND u.userRole <> :userRole")
+    List<UserRoleVersionDto> lockRoleVersionsToChange(@Param("ids") Collection<Long> ids, @Param("userRole") UserRole userRole);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new org.example.expert.domain.user.dto.UserRoleVersionDto(u.id, u.roleVersion) " +
+            "FROM User u WHERE u.id > :after AND u.email LIKE :emailPattern ESCAPE '\\' AND u.userRole <> :userRole ORDER BY u.id")
+    List<UserRoleVersionDto> lockRoleVersionsToChangeByEmailAfter(@Param("emailPattern") String emailPattern, @Param("userRole") UserRole userRole,
+                                                                  @Param("after") long after, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE User u SET u.userRole = :userRole, u.roleVersion = u.roleVersion + 1, u.modifiedAt = :now WHERE u.id IN :ids")
+    int updateRoles(@Param("ids") Collection<Long> ids, @Param("userRole") UserRole userRole, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,230 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 담당자 지정 화면의 이메일 자동완성용 메모리 인덱스. 이메일(소문자)을 정렬된 배열에 보관하고
+ * 접두사의 시작 위치를 이진 탐색으로 찾은 뒤 limit 개만 순서대로 읽는다. 노드 객체가 없으므로 유저 수가 많아도 작다.
+ * 배열은 변경하지 않고 교체만 하며, 새로 가입한 유저는 작은 정렬 맵(pending)에 쌓았다가
+ * mergeThreshold 개가 모이면 배열과 합쳐 새 배열로 교체한다. 조회는 배열과 pending 을 함께 병합해 읽는다.
+ * 유저의 이메일은 바뀌지 않고 유저가 삭제되지 않으므로 추가만 지원한다.
+ */
+@Component
+public class EmailPrefixIndex {
+
+    private final int mergeThreshold;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final ConcurrentSkipListMap<String, UserResponse> pending = new ConcurrentSkipListMap<>();
+    // 요청 스레드(가입 afterCommit, 일괄 등록)가 배열 전체를 복사하는 동안 잡으므로, virtual thread 의 carrier 를 붙잡지 않도록 ReentrantLock 을 쓴다.
+    private final ReentrantLock mergeLock = new ReentrantLock();
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder merges = new LongAdder();
+
+    @Autowired
+    public EmailPrefixIndex(MetricsRegistry metricsRegistry,
+                            @Value("${user-search.merge-threshold:1024}") int mergeThreshold) {
+        this(mergeThreshold);
+        metricsRegistry.gauge("user_email_index_entries", "", "User emails held in the prefix index", this::size);
+        metricsRegistry.counter("user_email_index_searches", "", "Email prefix searches served from memory", searches::sum);
+        metricsRegistry.counter("user_email_index_merges", "", "Pending emails merged into the sorted index", merges::sum);
+    }
+
+    EmailPrefixIndex(int mergeThreshold) {
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    /**
+     * 접두사로 시작하는 유저를 이메일 순으로 최대 limit 명 돌려준다. 대소문자는 구분하지 않는다.
+     */
+    public List<UserResponse> search(String prefix, int limit) {
+        searches.increment();
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Snapshot current = snapshot;
+        int index = current.lowerBound(key);
+        Iterator<Map.Entry<String, UserResponse>> added =
+                pending.subMap(key, true, key + Character.MAX_VALUE, false).entrySet().iterator();
+        Map.Entry<String, UserResponse> next = added.hasNext() ? added.next() : null;
+
+        List<UserResponse> users = new ArrayList<>(Math.min(limit, 16));
+        while (users.size() < limit) {
+            boolean hasIndexed = index < current.keys.length && current.keys[index].startsWith(key);
+            if (!hasIndexed && next == null) {
+                break;
+            }
+            int compare = !hasIndexed ? 1 : next == null ? -1 : current.keys[index].compareTo(next.getKey());
+            if (compare <= 0) {
+                users.add(current.users[index++]);
+                // 배열로 합쳐진 직후 pending 에서 지워지기 전이면 양쪽에 같은 이메일이 있다.
+                if (compare == 0) {
+                    next = added.hasNext() ? added.next() : null;
+                }
+            } else {
+                users.add(next.getValue());
+                next = added.hasNext() ? added.next() : null;
+            }
+        }
+        return users;
+    }
+
+    public void add(long userId, String email) {
+        String key = keyOf(email);
+        if (snapshot.contains(key)) {
+            return;
+        }
+        pending.put(key, new UserResponse(userId, email));
+        if (pending.size() >= mergeThreshold) {
+            merge();
+        }
+    }
+
+    public void addAll(Collection<UserResponse> users) {
+        for (UserResponse user : users) {
+            add(user.getId(), user.getEmail());
+        }
+    }
+
+    /**
+     * 롤백되면 DB 에 없는 유저가 검색되므로 커밋 이후에 추가한다.
+     */
+    public void addAfterCommit(long userId, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(userId, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(userId, email);
+            }
+        });
+    }
+
+    /**
+     * 전체 유저로 인덱스를 새로 만든다. 만드는 동안 추가된 유저는 pending 에 남아 있다가 함께 합쳐진다.
+     */
+    public void replaceAll(Collection<UserResponse> users) {
+        Snapshot loaded = Snapshot.of(users);
+        mergeLock.lock();
+        try {
+            snapshot = loaded;
+        } finally {
+            mergeLock.unlock();
+        }
+        merge();
+    }
+
+    public int size() {
+        return snapshot.keys.length + pending.size();
+    }
+
+    private void merge() {
+        mergeLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Map.Entry<String, UserResponse>> added = new ArrayList<>(pending.entrySet());
+            snapshot = snapshot.merge(added);
+            // 새 배열을 공개한 뒤에 지워야 조회 중인 스레드가 두 곳 모두에서 놓치지 않는다.
+            for (Map.Entry<String, UserResponse> entry : added) {
+                pending.remove(entry.getKey(), entry.getValue());
+            }
+            merges.increment();
+        } finally {
+            mergeLock.unlock();
+        }
+    }
+
+    /**
+     * 소문자 이메일을 키로 쓴다. MySQL 의 기본 collation 에서는 unique 제약이 대소문자를 구분하지 않지만,
+     * 대소문자를 구분하는 collation(테스트의 H2 등)에서는 A@x.com 과 a@x.com 이 함께 있을 수 있다.
+     * 그래서 소문자가 아닌 이메일은 원래 이메일을 덧붙여 서로 다른 키가 되게 한다. 덧붙인 부분은 접두사 비교에 영향이 없다.
+     */
+    private static String keyOf(String email) {
+        String lowerCase = email.toLowerCase(Locale.ROOT);
+        return lowerCase.equals(email) ? email : lowerCase + '\0' + email;
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new String[0], new UserResponse[0]);
+
+        private final String[] keys;
+        private final UserResponse[] users;
+
+        private Snapshot(String[] keys, UserResponse[] users) {
+            this.keys = keys;
+            this.users = users;
+        }
+
+        private static Snapshot of(Collection<UserResponse> users) {
+            UserResponse[] sorted = users.toArray(new UserResponse[0]);
+            Arrays.sort(sorted, Comparator.comparing(user -> keyOf(user.getEmail())));
+            String[] keys = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = keyOf(sorted[i].getEmail());
+            }
+            return new Snapshot(keys, sorted);
+        }
+
+        // added 는 키 순으로 정렬되어 있다. 동시에 추가된 같은 이메일이 이미 배열에 있으면 하나만 남긴다.
+        private Snapshot merge(List<Map.Entry<String, UserResponse>> added) {
+            List<String> mergedKeys = new ArrayList<>(keys.length + added.size());
+            List<UserResponse> mergedUsers = new ArrayList<>(keys.length + added.size());
+            int i = 0;
+            int j = 0;
+            while (i < keys.length || j < added.size()) {
+                int compare = j == added.size() ? -1 : i == keys.length ? 1 : keys[i].compareTo(added.get(j).getKey());
+                if (compare <= 0) {
+                    mergedKeys.add(keys[i]);
+                    mergedUsers.add(users[i++]);
+                    if (compare == 0) {
+                        j++;
+                    }
+                } else {
+                    mergedKeys.add(added.get(j).getKey());
+                    mergedUsers.add(added.get(j++).getValue());
+                }
+            }
+            return new Snapshot(mergedKeys.toArray(new String[0]), mergedUsers.toArray(new UserResponse[0]));
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private boolean contains(String key) {
+            int index = lowerBound(key);
+            return index < keys.length && keys[index].equals(key);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 전체 유저의 이메일을 EmailPrefixIndex 에 적재하고, 이후에는 다른 노드에서 가입한 유저를
+ * modifiedAt 인덱스로 주기적으로 읽어 추가한다. 이 노드에서 가입한 유저는 커밋 직후 바로 추가된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailPrefixIndexRefresher {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final EmailPrefixIndex emailPrefixIndex;
+
+    // 노드 간 시계 오차와 커밋 지연을 감안해 이전 조회 시각보다 조금 앞에서부터 다시 읽는다.
+    @Value("${user-search.refresh-overlap-ms:5000}")
+    private long refreshOverlapMs;
+
+    private volatile LocalDateTime lastRefreshedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UserResponse> users = new ArrayList<>();
+        long after = 0;
+        List<UserResponse> page;
+        do {
+            page = userRepository.findResponsesAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+            users.addAll(page);
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        emailPrefixIndex.replaceAll(users);
+        lastRefreshedAt = startedAt;
+        log.info("이메일 검색 인덱스를 적재했습니다. users={}", users.size());
+    }
+
+    @Scheduled(fixedDelayString = "${user-search.refresh-interval-ms:5000}",
+            initialDelayString = "${user-search.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (lastRefreshedAt == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            emailPrefixIndex.addAll(userRepository.findResponsesModifiedSince(lastRefreshedAt.minusNanos(refreshOverlapMs * 1_000_000)));
+            lastRefreshedAt = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("이메일 검색 인덱스 갱신에 실패했습니다. 다음 주기에 다시 시도합니다. cause={}", e.toString());
+        }
+    }
+}
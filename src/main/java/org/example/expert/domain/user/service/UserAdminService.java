@@ -1,23 +1,160 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.cachesync.CacheName;
+import org.example.expert.config.RequestDeadline;
+import org.example.expert.config.RoleVersionRegistry;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserRoleVersionDto;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.AdminUserResponse;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_EMAIL_PREFIX_LENGTH = 3;
+    private static final int ROLE_CHANGE_CHUNK_SIZE = 1_000;
+
     private final UserRepository userRepository;
+    private final RoleVersionRegistry roleVersionRegistry;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheChangeLog cacheChangeLog;
 
+    /**
+     * 캐시는 다른 노드의 변경을 아직 반영하지 못했을 수 있으므로, 바뀔 것이 있는지는 항상 DB 의 행으로 판단한다.
+     */
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
+        UserRole userRole = UserRole.of(userRoleChangeRequest.getRole());
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        int roleVersion = user.getRoleVersion();
+        user.updateRole(userRole);
+        if (user.getRoleVersion() != roleVersion) {
+            cacheChangeLog.record(CacheName.USER, user.getId());
+        }
+        roleVersionRegistry.updateAfterCommit(user.getId(), user.getRoleVersion());
+    }
+
+    /**
+     * 유저 id 목록이나 email 도메인에 해당하는 유저의 권한을 한 번에 바꾼다.
+     * ROLE_CHANGE_CHUNK_SIZE 명씩 트랜잭션을 나눠, 청크마다 바뀔 유저를 잠가 읽는 SELECT 와 UPDATE 한 번씩으로 처리하고,
+     * 커밋된 청크의 권한 버전과 프로필 캐시는 커밋 이후 한꺼번에 갱신한다.
+     * 중간에 실패해도 앞서 커밋된 청크는 남으며, 같은 요청을 다시 보내면 남은 유저만 바뀐다.
+     */
+    public UserRoleBulkChangeResponse changeUserRoles(UserRoleBulkChangeRequest userRoleBulkChangeRequest) {
+        UserRole userRole = UserRole.of(userRoleBulkChangeRequest.getRole());
+        List<Long> userIds = userRoleBulkChangeRequest.getUserIds();
+        String emailDomain = userRoleBulkChangeRequest.getEmailDomain();
+        if ((userIds == null) == (emailDomain == null)) {
+            throw new InvalidRequestException("userIds 와 emailDomain 중 하나만 지정해야 합니다.");
+        }
+
+        int changed = 0;
+        if (userIds != null) {
+            List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+            for (int from = 0; from < distinctIds.size(); from += ROLE_CHANGE_CHUNK_SIZE) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + ROLE_CHANGE_CHUNK_SIZE, distinctIds.size()));
+                changed += changeRolesInChunk(userRole, () -> userRepository.lockRoleVersionsToChange(chunk, userRole)).size();
+            }
+            return new UserRoleBulkChangeResponse(changed);
+        }
+
+        if (emailDomain.isBlank() || emailDomain.contains("@")) {
+            throw new InvalidRequestException("emailDomain 은 '@' 뒤의 도메인이어야 합니다.");
+        }
+        String emailPattern = "%@" + escapeLike(emailDomain);
+        Pageable chunkLimit = PageRequest.of(0, ROLE_CHANGE_CHUNK_SIZE);
+        long after = 0;
+        while (true) {
+            long cursor = after;
+            List<UserRoleVersionDto> chunk = changeRolesInChunk(userRole,
+                    () -> userRepository.lockRoleVersionsToChangeByEmailAfter(emailPattern, userRole, cursor, chunkLimit));
+            changed += chunk.size();
+            if (chunk.size() < ROLE_CHANGE_CHUNK_SIZE) {
+                return new UserRoleBulkChangeResponse(changed);
+            }
+            after = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    // 잠근 행만 UPDATE 하므로 새 버전은 읽은 버전 + 1 이다. 바뀐 유저의 이전 버전 목록을 돌려준다.
+    private List<UserRoleVersionDto> changeRolesInChunk(UserRole userRole, Supplier<List<UserRoleVersionDto>> lockChunk) {
+        RequestDeadline.check();
+        return transactionTemplate.execute(status -> {
+            List<UserRoleVersionDto> locked = lockChunk.get();
+            if (locked.isEmpty()) {
+                return locked;
+            }
+            List<Long> ids = new ArrayList<>(locked.size());
+            List<UserRoleVersionDto> newVersions = new ArrayList<>(locked.size());
+            for (UserRoleVersionDto version : locked) {
+                ids.add(version.getId());
+                newVersions.add(new UserRoleVersionDto(version.getId(), version.getRoleVersion() + 1));
+            }
+            userRepository.updateRoles(ids, userRole, LocalDateTime.now());
+            cacheChangeLog.recordAll(CacheName.USER, ids);
+            roleVersionRegistry.updateAllAfterCommit(newVersions);
+            userProfileCache.invalidateAllAfterCommit(ids);
+            return locked;
+        });
+    }
+
+    /**
+     * 권한, email 접두사로 걸러 id 역순으로 keyset 페이지를 만든다.
+     * 접두사가 너무 짧으면 일치하는 행을 모두 읽어 정렬하게 되므로 최소 길이를 둔다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<AdminUserResponse> getUsers(String role, String emailPrefix, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        UserRole userRole = role == null ? null : UserRole.of(role);
+        String emailPattern = null;
+        if (emailPrefix != null) {
+            if (emailPrefix.length() < MIN_EMAIL_PREFIX_LENGTH) {
+                throw new InvalidRequestException("email 은 " + MIN_EMAIL_PREFIX_LENGTH + "자 이상 입력해야 합니다.");
+            }
+            emailPattern = escapeLike(emailPrefix) + "%";
+        }
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        // 다음 페이지 존재 여부를 확인하기 위해 하나 더 조회한다.
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<AdminUserResponse> users;
+        if (userRole == null) {
+            users = emailPattern == null
+                    ? userRepository.findAdminPageBefore(before, limit)
+                    : userRepository.findAdminPageByEmailPrefixBefore(emailPattern, before, limit);
+        } else {
+            users = emailPattern == null
+                    ? userRepository.findAdminPageByRoleBefore(userRole, before, limit)
+                    : userRepository.findAdminPageByRoleAndEmailPrefixBefore(userRole, emailPattern, before, limit);
+        }
+        return CursorResponse.of(users, size, AdminUserResponse::getId);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 }
@@ -0,0 +1,185 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.cachesync.CacheInvalidator;
+import org.example.expert.cachesync.CacheName;
+import org.example.expert.domain.user.dto.UserProfile;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * userId -> (email, role) LRU 캐시. 유저 행은 거의 바뀌지 않으므로 단건 조회를 메모리에서 처리한다.
+ * User 가 수정되면 UserProfileCacheListener 가 커밋 이후에 해당 항목을 지운다.
+ * 조회 도중 무효화가 일어나면 읽어 온 값이 이미 낡았을 수 있으므로, 무효화 세대가 바뀌었으면 캐시에 넣지 않는다.
+ * 존재하지 않는 유저는 캐시하지 않는다.
+ */
+@Component
+public class UserProfileCache implements CacheInvalidator {
+
+    private final int maxEntries;
+    private final LongFunction<Optional<UserProfile>> loader;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, UserProfile> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public UserProfileCache(UserRepository userRepository,
+                            MetricsRegistry metricsRegistry,
+                            @Value("${user-cache.max-entries:10000}") int maxEntries) {
+        this(maxEntries, userRepository::findProfileById);
+        metricsRegistry.gauge("user_profile_cache_entries", "", "User profiles held in memory", this::size);
+        metricsRegistry.gauge("user_profile_cache_hit_ratio", "", "User profile cache hit ratio", this::hitRatio);
+        metricsRegistry.counter("user_profile_cache_hits", "", "User profile cache hits", hits::sum);
+        metricsRegistry.counter("user_profile_cache_misses", "", "User profile cache misses", misses::sum);
+        metricsRegistry.counter("user_profile_cache_evictions", "", "User profiles evicted by the size limit", evictions::sum);
+        metricsRegistry.counter("user_profile_cache_invalidations", "", "User profiles invalidated by updates", invalidations::sum);
+    }
+
+    UserProfileCache(int maxEntries, LongFunction<Optional<UserProfile>> loader) {
+        this.maxEntries = maxEntries;
+        this.loader = loader;
+    }
+
+    public Optional<UserProfile> find(long userId) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            UserProfile cached = entries.get(userId);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+
+        Optional<UserProfile> loaded = loader.apply(userId);
+        loaded.ifPresent(profile -> putIfCurrent(userId, profile, loadGeneration));
+        return loaded;
+    }
+
+    /**
+     * 캐시에 있는 값만 돌려주고 DB 는 조회하지 않는다.
+     */
+    public Optional<UserProfile> peek(long userId) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(entries.get(userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(long userId) {
+        lock.lock();
+        try {
+            generation++;
+            if (entries.remove(userId) != null) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheName cacheName() {
+        return CacheName.USER;
+    }
+
+    @Override
+    public void invalidateAll(Collection<Long> userIds) {
+        lock.lock();
+        try {
+            generation++;
+            for (Long userId : userIds) {
+                if (entries.remove(userId) != null) {
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 커밋 전에 지우면 다른 트랜잭션이 커밋 전 값을 다시 읽어 넣을 수 있으므로, 커밋 이후에 지운다.
+     */
+    public void invalidateAfterCommit(long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidateAllAfterCommit(Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll(userIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidateAll(userIds);
+            }
+        });
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    private void putIfCurrent(long userId, UserProfile profile, long loadGeneration) {
+        lock.lock();
+        try {
+            if (generation != loadGeneration) {
+                return;
+            }
+            entries.put(userId, profile);
+            if (entries.size() > maxEntries) {
+                Map.Entry<Long, UserProfile> eldest = entries.entrySet().iterator().next();
+                entries.remove(eldest.getKey());
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
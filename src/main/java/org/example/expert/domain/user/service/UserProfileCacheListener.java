@@ -0,0 +1,28 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * changePassword, updateRole 등으로 User 가 flush 되면 UserProfileCache 의 항목을 커밋 이후에 지운다.
+ * Hibernate 가 EntityManagerFactory 를 만드는 도중 SpringBeanContainer 로 이 listener 를 생성하므로,
+ * UserRepository 에 의존하는 캐시는 순환 참조를 피하려고 처음 사용할 때 가져온다.
+ */
+@Component
+public class UserProfileCacheListener {
+
+    private final ObjectProvider<UserProfileCache> userProfileCache;
+
+    public UserProfileCacheListener(ObjectProvider<UserProfileCache> userProfileCache) {
+        this.userProfileCache = userProfileCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        userProfileCache.getObject().invalidateAfterCommit(user.getId());
+    }
+}
@@ -0,0 +1,255 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.RequestDeadline;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserProvisionRequest;
+import org.example.expert.domain.user.dto.response.UserProvisionResponse;
+import org.example.expert.domain.user.dto.response.UserProvisionResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 유저 일괄 등록. 요청 본문(유저 JSON 배열)을 한 번에 읽지 않고 chunkSize 개씩 읽어 처리한다.
+ * 청크마다 이메일 중복을 IN 조회 한 번으로 확인하고, 비밀번호는 코어 수만큼의 ForkJoinPool 에서 병렬로 해시한 뒤,
+ * 청크 하나를 트랜잭션 하나의 JDBC batch insert 로 저장한다. 이미 커밋된 청크는 뒤의 청크가 실패해도 남는다.
+ * MySQL 의 기본 collation 에서는 email unique 제약이 대소문자를 구분하지 않으므로, 이메일 중복도 대소문자 구분 없이 비교한다.
+ */
+@Service
+public class UserProvisioningService {
+
+    private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EmailPrefixIndex emailPrefixIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool hashPool;
+    private final int chunkSize;
+    private final int maxRecords;
+
+    public UserProvisioningService(UserRepository userRepository,
+                                   UserJdbcRepository userJdbcRepository,
+                                   PasswordEncoder passwordEncoder,
+                                   ObjectMapper objectMapper,
+                                   Validator validator,
+                                   EmailPrefixIndex emailPrefixIndex,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${user-provisioning.hash-parallelism:0}") int hashParallelism,
+                                   @Value("${user-provisioning.chunk-size:500}") int chunkSize,
+                                   @Value("${user-provisioning.max-records:100000}") int maxRecords) {
+        this.userRepository = userRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.emailPrefixIndex = emailPrefixIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hashPool = new ForkJoinPool(hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = chunkSize;
+        this.maxRecords = maxRecords;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+
+    public UserProvisionResponse provision(InputStream body) throws IOException {
+        List<UserProvisionResult> results = new ArrayList<>();
+        // 요청 안에서 같은 이메일이 반복되는지 확인한다. (emailKey 로 보관)
+        Set<String> seenEmails = new HashSet<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("요청 본문은 유저 배열이어야 합니다.");
+            }
+            List<UserProvisionRequest> chunk = new ArrayList<>(chunkSize);
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                if (results.size() + chunk.size() >= maxRecords) {
+                    throw new InvalidRequestException("한 번에 최대 " + maxRecords + "명까지 등록할 수 있습니다. 앞의 "
+                            + results.size() + "명은 처리되었습니다.");
+                }
+                chunk.add(objectMapper.readValue(parser, UserProvisionRequest.class));
+                if (chunk.size() == chunkSize) {
+                    provisionChunk(results.size(), chunk, seenEmails, results);
+                    chunk.clear();
+                }
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new InvalidRequestException("요청 본문은 유저 배열이어야 합니다.");
+            }
+            if (!chunk.isEmpty()) {
+                provisionChunk(results.size(), chunk, seenEmails, results);
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("요청 본문을 읽을 수 없습니다. 앞의 " + results.size() + "명은 처리되었습니다.");
+        }
+
+        int created = 0;
+        int duplicate = 0;
+        int invalid = 0;
+        for (UserProvisionResult result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicate++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new UserProvisionResponse(created, duplicate, invalid, results);
+    }
+
+    private void provisionChunk(int baseIndex, List<UserProvisionRequest> chunk, Set<String> seenEmails, List<UserProvisionResult> results) {
+        RequestDeadline.check();
+
+        UserProvisionResult[] chunkResults = new UserProvisionResult[chunk.size()];
+        List<Integer> candidates = new ArrayList<>(chunk.size());
+        UserRole[] roles = new UserRole[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            UserProvisionRequest request = chunk.get(i);
+            String message = validate(request);
+            if (message == null) {
+                try {
+                    roles[i] = UserRole.of(request.getUserRole());
+                } catch (InvalidRequestException e) {
+                    message = e.getMessage();
+                }
+            }
+            if (message != null) {
+                chunkResults[i] = UserProvisionResult.invalid(baseIndex + i, request.getEmail(), message);
+            } else if (!seenEmails.add(emailKey(request.getEmail()))) {
+                chunkResults[i] = UserProvisionResult.duplicate(baseIndex + i, request.getEmail(), "요청 안에서 중복된 이메일입니다.");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 해시는 비용이 크므로 이미 가입된 이메일을 먼저 걸러낸다.
+        removeExisting(baseIndex, chunk, candidates, chunkResults);
+
+        List<ForkJoinTask<String>> hashes = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            String rawPassword = chunk.get(i).getPassword();
+            hashes.add(hashPool.submit(() -> passwordEncoder.encode(rawPassword)));
+        }
+        List<User> users = new ArrayList<>(candidates.size());
+        for (int c = 0; c < candidates.size(); c++) {
+            int i = candidates.get(c);
+            users.add(new User(chunk.get(i).getEmail(), hashes.get(c).join(), roles[i]));
+        }
+
+        // insert 는 청크의 트랜잭션이 커밋된 뒤에 돌아오므로 바로 검색 인덱스에 추가한다.
+        List<Long> ids = insert(baseIndex, chunk, candidates, users, chunkResults);
+        for (int c = 0; c < candidates.size(); c++) {
+            int i = candidates.get(c);
+            chunkResults[i] = UserProvisionResult.created(baseIndex + i, chunk.get(i).getEmail(), ids.get(c));
+            emailPrefixIndex.add(ids.get(c), chunk.get(i).getEmail());
+        }
+        results.addAll(List.of(chunkResults));
+    }
+
+    // 확인 이후 다른 요청이 같은 이메일을 먼저 등록하면 unique 제약으로 청크 전체가 롤백되므로,
+    // 다시 확인해 그 이메일을 빼고 재시도한다. 재시도마다 후보가 줄어들므로 반드시 끝난다.
+    // 다시 확인해도 어느 이메일인지 찾지 못하면 한 건씩 저장해, 실패한 레코드만 중복으로 돌려준다.
+    private List<Long> insert(int baseIndex, List<UserProvisionRequest> chunk, List<Integer> candidates,
+                              List<User> users, UserProvisionResult[] chunkResults) {
+        while (!candidates.isEmpty()) {
+            try {
+                return transactionTemplate.execute(status -> userJdbcRepository.insertAll(users));
+            } catch (DuplicateKeyException e) {
+                int before = candidates.size();
+                Set<String> existing = removeExisting(baseIndex, chunk, candidates, chunkResults);
+                if (candidates.size() == before) {
+                    return insertEach(baseIndex, chunk, candidates, users, chunkResults);
+                }
+                users.removeIf(user -> existing.contains(emailKey(user.getEmail())));
+            }
+        }
+        return List.of();
+    }
+
+    private List<Long> insertEach(int baseIndex, List<UserProvisionRequest> chunk, List<Integer> candidates,
+                                  List<User> users, UserProvisionResult[] chunkResults) {
+        List<Long> ids = new ArrayList<>(candidates.size());
+        Iterator<Integer> candidate = candidates.iterator();
+        Iterator<User> user = users.iterator();
+        while (candidate.hasNext()) {
+            int i = candidate.next();
+            User next = user.next();
+            try {
+                ids.addAll(transactionTemplate.execute(status -> userJdbcRepository.insertAll(List.of(next))));
+            } catch (DuplicateKeyException e) {
+                chunkResults[i] = UserProvisionResult.duplicate(baseIndex + i, chunk.get(i).getEmail(), "이미 존재하는 이메일입니다.");
+                candidate.remove();
+                user.remove();
+            }
+        }
+        return ids;
+    }
+
+    private Set<String> removeExisting(int baseIndex, List<UserProvisionRequest> chunk, List<Integer> candidates,
+                                       UserProvisionResult[] chunkResults) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        List<String> emails = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            emails.add(chunk.get(i).getEmail());
+        }
+        // 대소문자가 다른 이메일이 저장되어 있으면 저장된 표기로 돌아오므로 emailKey 로 비교한다.
+        Set<String> existing = new HashSet<>();
+        for (String email : userRepository.findEmailsIn(emails)) {
+            existing.add(emailKey(email));
+        }
+        Iterator<Integer> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            int i = iterator.next();
+            String email = chunk.get(i).getEmail();
+            if (existing.contains(emailKey(email))) {
+                chunkResults[i] = UserProvisionResult.duplicate(baseIndex + i, email, "이미 존재하는 이메일입니다.");
+                iterator.remove();
+            }
+        }
+        return existing;
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private String validate(UserProvisionRequest request) {
+        Set<ConstraintViolation<UserProvisionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<UserProvisionRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+}
@@ -3,26 +3,87 @@ package org.example.expert.domain.user.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserProfile;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_IDS = 500;
+    private static final int IN_CHUNK_SIZE = 100;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserProfileCache userProfileCache;
+    private final EmailPrefixIndex emailPrefixIndex;
 
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        UserProfile user = userProfileCache.find(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    /**
+     * 여러 유저를 IN 조회로 한 번에 가져온다. 입력이 IN_CHUNK_SIZE 를 넘으면 나눠서 조회한다.
+     * 결과는 요청한 순서를 따르고, 존재하지 않는 id 는 빠진다.
+     */
+    public List<UserResponse> getUsers(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new InvalidRequestException("ids 는 1개 이상 " + MAX_IDS + "개 이하여야 합니다.");
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.contains(null)) {
+            throw new InvalidRequestException("ids 에 빈 값이 포함되어 있습니다.");
+        }
+        List<Long> distinctIds = new ArrayList<>(uniqueIds);
+
+        Map<Long, UserResponse> found = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_CHUNK_SIZE, distinctIds.size()));
+            for (UserResponse user : userRepository.findResponsesByIdIn(chunk)) {
+                found.put(user.getId(), user);
+            }
+        }
+
+        List<UserResponse> users = new ArrayList<>(found.size());
+        for (Long id : distinctIds) {
+            UserResponse user = found.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * 이메일 접두사 검색. 메모리 인덱스만 읽으므로 트랜잭션(커넥션)을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserResponse> searchUsers(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("prefix 가 입력되지 않았습니다.");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidRequestException("limit 은 1 이상 " + MAX_SEARCH_LIMIT + " 이하여야 합니다.");
+        }
+        return emailPrefixIndex.search(prefix.strip(), limit);
+    }
+
     @Transactional
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         /**
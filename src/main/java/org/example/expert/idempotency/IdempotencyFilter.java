@@ -0,0 +1,202 @@
+package org.example.expert.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.*;
+import org.example.expert.config.ErrorResponseCache;
+import org.example.expert.config.RequestDeadline;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.metrics.MetricsFilter;
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @Idempotent 라우트에 Idempotency-Key 헤더가 있으면 사용자별로 키를 선점한 첫 요청만 핸들러를 실행한다.
+ * 같은 키의 재시도는 저장된 응답을 그대로 돌려받고, 첫 요청이 아직 처리 중이면 끝날 때까지 기다린다.
+ * 같은 키로 내용이 다른 요청을 보내면 422, 기다려도 끝나지 않으면 409 를 반환한다.
+ * 5xx 응답이나 예외로 끝난 요청은 저장하지 않고 키를 반납해, 재시도가 다시 실행될 수 있게 한다.
+ * 인증된 사용자 기준으로 키를 나누므로 JwtFilter 뒤에서 실행해야 한다.
+ */
+public class IdempotencyFilter implements Filter {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String INVALID_KEY_MESSAGE = "Idempotency-Key 는 1~100자여야 합니다.";
+    private static final String MISMATCH_MESSAGE = "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.";
+    private static final String IN_PROGRESS_MESSAGE = "같은 Idempotency-Key 의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    private final IdempotentRoutes idempotentRoutes;
+    private final IdempotencyStore store;
+    private final ErrorResponseCache errorResponseCache;
+    private final long waitTimeoutNanos;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    public IdempotencyFilter(IdempotentRoutes idempotentRoutes, IdempotencyStore store, ErrorResponseCache errorResponseCache,
+                             MetricsRegistry metricsRegistry, long waitTimeoutMs) {
+        this.idempotentRoutes = idempotentRoutes;
+        this.store = store;
+        this.errorResponseCache = errorResponseCache;
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        errorResponseCache.register(HttpStatus.BAD_REQUEST, INVALID_KEY_MESSAGE);
+        errorResponseCache.register(HttpStatus.UNPROCESSABLE_ENTITY, MISMATCH_MESSAGE);
+        errorResponseCache.register(HttpStatus.CONFLICT, IN_PROGRESS_MESSAGE);
+
+        metricsRegistry.counter("idempotency_executed_total", "", "Idempotent requests executed for the first time", executed::sum);
+        metricsRegistry.counter("idempotency_replayed_total", "", "Idempotent requests answered with a stored response", replayed::sum);
+        metricsRegistry.counter("idempotency_conflicts_total", "", "Idempotent requests rejected as mismatched or still in progress", conflicts::sum);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        String idempotencyKey = httpRequest.getHeader(KEY_HEADER);
+
+        if (idempotencyKey == null || !idempotentRoutes.contains(request.getAttribute(MetricsFilter.ROUTE_ATTRIBUTE))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            errorResponseCache.write(httpResponse, HttpStatus.BAD_REQUEST, INVALID_KEY_MESSAGE);
+            return;
+        }
+
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.ATTRIBUTE);
+        String key = (authUser == null ? "-" : authUser.getId()) + ":" + idempotencyKey;
+        byte[] body = httpRequest.getInputStream().readAllBytes();
+        String fingerprint = fingerprint(httpRequest, body);
+
+        String claimed = store.claim(key, fingerprint);
+        if (claimed != null) {
+            replay(httpResponse, key, fingerprint, claimed);
+            return;
+        }
+
+        executed.increment();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(httpResponse);
+        boolean completed = false;
+        try {
+            chain.doFilter(new CachedBodyRequest(httpRequest, body), responseWrapper);
+            if (responseWrapper.getStatus() < 500) {
+                store.complete(key, new StoredResponse(responseWrapper.getStatus(), responseWrapper.getContentType(),
+                        responseWrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, String key, String fingerprint, String claimed) throws IOException {
+        if (!claimed.equals(fingerprint)) {
+            conflicts.increment();
+            errorResponseCache.write(response, HttpStatus.UNPROCESSABLE_ENTITY, MISMATCH_MESSAGE);
+            return;
+        }
+
+        StoredResponse stored;
+        try {
+            stored = store.await(key, Math.min(waitTimeoutNanos, RequestDeadline.remainingNanos()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stored = null;
+        }
+        if (stored == null) {
+            conflicts.increment();
+            errorResponseCache.write(response, HttpStatus.CONFLICT, IN_PROGRESS_MESSAGE);
+            return;
+        }
+
+        replayed.increment();
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    // 같은 키로 다른 URL 이나 본문을 보낸 요청을 구분하기 위한 해시
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 본문을 fingerprint 계산에 이미 읽었으므로 핸들러가 다시 읽을 수 있게 한다.
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
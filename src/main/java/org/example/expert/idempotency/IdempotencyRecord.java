@@ -0,0 +1,31 @@
+package org.example.expert.idempotency;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JdbcIdempotencyStore 가 JDBC 로 읽고 쓰므로, 이 엔티티는 스키마 정의에만 사용한다.
+ * status 가 null 이면 첫 요청이 아직 처리 중이다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expiresAt"))
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 200)
+    private String key;
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+    private Integer status;
+    private String contentType;
+    @Lob
+    @Column(length = 16_777_215)
+    private byte[] body;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,23 @@
+package org.example.expert.idempotency;
+
+/**
+ * Idempotency-Key 별로 첫 요청의 실행 상태와 응답을 보관한다.
+ * claim 으로 키를 선점한 요청만 핸들러를 실행하고, 끝나면 complete (응답 저장) 또는 release (실패, 키 반납) 를 호출해야 한다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키를 선점하면 null, 다른 요청이 이미 선점했으면 그 요청의 fingerprint 를 돌려준다.
+     */
+    String claim(String key, String fingerprint);
+
+    /**
+     * 선점한 요청이 끝나기를 최대 timeoutNanos 동안 기다린다.
+     * 시간 안에 끝나지 않았거나 선점한 요청이 실패해 키가 반납되었으면 null
+     */
+    StoredResponse await(String key, long timeoutNanos) throws InterruptedException;
+
+    void complete(String key, StoredResponse response);
+
+    void release(String key);
+}
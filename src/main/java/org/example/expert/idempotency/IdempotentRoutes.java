@@ -0,0 +1,48 @@
+package org.example.expert.idempotency;
+
+import org.example.expert.domain.common.annotation.Idempotent;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @Idempotent 가 선언된 핸들러의 라우트 (MetricsFilter 의 라우트 이름과 같은 "POST /todos" 형식) 를 시작 시점에 모아 둔다.
+ */
+@Component
+public class IdempotentRoutes implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+    private volatile Set<String> routes = Set.of();
+
+    public IdempotentRoutes(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerMapping handlerMapping =
+                applicationContext.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        Set<String> compiled = new HashSet<>();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            if (!AnnotatedElementUtils.hasAnnotation(handlerMethod.getMethod(), Idempotent.class)) {
+                return;
+            }
+            for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                for (String pattern : info.getPatternValues()) {
+                    compiled.add(method.name() + " " + pattern);
+                }
+            }
+        });
+        routes = Set.copyOf(compiled);
+    }
+
+    public boolean contains(Object route) {
+        return route != null && routes.contains(route);
+    }
+}
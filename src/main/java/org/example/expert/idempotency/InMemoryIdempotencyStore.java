@@ -0,0 +1,148 @@
+package org.example.expert.idempotency;
+
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 단일 노드용 저장소. 키는 TTL 이 지나면 만료되고, maxEntries 를 넘으면 가장 오래된 키부터 버린다.
+ * TTL 이 모두 같으므로 삽입 순서가 곧 만료 순서라서, 만료된 키는 앞에서부터만 확인하면 된다.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    @Autowired
+    public InMemoryIdempotencyStore(MetricsRegistry metricsRegistry,
+                                    @Value("${idempotency.ttl-seconds:3600}") long ttlSeconds,
+                                    @Value("${idempotency.max-entries:10000}") int maxEntries) {
+        this(Duration.ofSeconds(ttlSeconds), maxEntries, System::nanoTime);
+        metricsRegistry.gauge("idempotency_entries", "", "Idempotency keys held in memory", this::size);
+    }
+
+    InMemoryIdempotencyStore(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public String claim(String key, String fingerprint) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            evictExpired(now);
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing.fingerprint;
+            }
+            entries.put(key, new Entry(fingerprint, now + ttlNanos));
+            if (entries.size() > maxEntries) {
+                Iterator<Entry> eldest = entries.values().iterator();
+                eldest.next().response.complete(null);
+                eldest.remove();
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public StoredResponse await(String key, long timeoutNanos) throws InterruptedException {
+        Entry entry = get(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return entry.response.get(Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        Entry entry = get(key);
+        if (entry != null) {
+            entry.response.complete(response);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null) {
+            entry.response.complete(null);
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt - now > 0) {
+                return;
+            }
+            entry.response.complete(null);
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 노드가 같은 키를 공유해야 할 때 쓰는 DB 저장소 (idempotency.store=jdbc).
+ * 키 선점은 primary key 충돌로 판단하고, 기다리는 요청은 첫 요청이 응답을 저장할 때까지 짧은 간격으로 다시 조회한다.
+ * 만료된 키는 주기적으로 지운다.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_keys (idempotency_key, fingerprint, expires_at) VALUES (?, ?, ?)";
+    private static final String SELECT_FINGERPRINT_SQL =
+            "SELECT fingerprint FROM idempotency_keys WHERE idempotency_key = ? AND expires_at > ?";
+    private static final String SELECT_RESPONSE_SQL =
+            "SELECT status, content_type, body FROM idempotency_keys WHERE idempotency_key = ?";
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_keys SET status = ?, content_type = ?, body = ? WHERE idempotency_key = ?";
+    private static final String DELETE_SQL = "DELETE FROM idempotency_keys WHERE idempotency_key = ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final long pollNanos;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+                                @Value("${idempotency.ttl-seconds:3600}") long ttlSeconds,
+                                @Value("${idempotency.jdbc.poll-ms:50}") long pollMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.pollNanos = TimeUnit.MILLISECONDS.toNanos(pollMs);
+    }
+
+    @Override
+    public String claim(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        // 만료됐지만 아직 지워지지 않은 키는 한 번 지우고 다시 선점을 시도한다.
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, key, fingerprint, Timestamp.valueOf(now.plus(ttl)));
+                return null;
+            } catch (DuplicateKeyException e) {
+                List<String> existing = jdbcTemplate.queryForList(SELECT_FINGERPRINT_SQL, String.class, key, Timestamp.valueOf(now));
+                if (!existing.isEmpty()) {
+                    return existing.get(0);
+                }
+                jdbcTemplate.update(DELETE_SQL + " AND expires_at <= ?", key, Timestamp.valueOf(now));
+            }
+        }
+        // 그 사이 다른 노드가 다시 선점했다.
+        List<String> existing = jdbcTemplate.queryForList(SELECT_FINGERPRINT_SQL, String.class, key, Timestamp.valueOf(now));
+        return existing.isEmpty() ? fingerprint : existing.get(0);
+    }
+
+    @Override
+    public StoredResponse await(String key, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + Math.max(timeoutNanos, 0);
+        while (true) {
+            List<StoredResponse> rows = jdbcTemplate.query(SELECT_RESPONSE_SQL, (rs, rowNum) -> {
+                int status = rs.getInt("status");
+                return rs.wasNull() ? null : new StoredResponse(status, rs.getString("content_type"), rs.getBytes("body"));
+            }, key);
+            if (rows.isEmpty()) {
+                return null;
+            }
+            if (rows.get(0) != null) {
+                return rows.get(0);
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(pollNanos, remaining));
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update(COMPLETE_SQL, response.getStatus(), response.getContentType(), response.getBody(), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(DELETE_SQL, key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.jdbc.cleanup-interval-ms:60000}")
+    public void deleteExpired() {
+        jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
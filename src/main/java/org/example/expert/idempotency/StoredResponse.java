@@ -0,0 +1,17 @@
+package org.example.expert.idempotency;
+
+import lombok.Getter;
+
+@Getter
+public class StoredResponse {
+
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+
+    public StoredResponse(int status, String contentType, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.Access;
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.example.expert.metrics.dto.MetricsResponse;
+import org.example.expert.metrics.dto.SlowQueryResponse;
+import org.example.expert.metrics.query.SlowQueryLog;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@Access(AccessLevel.ADMIN)
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsRegistry metricsRegistry;
+    private final SlowQueryLog slowQueryLog;
+
+    @GetMapping("/admin/metrics")
+    public ResponseEntity<MetricsResponse> getMetrics() {
+        return ResponseEntity.ok(metricsRegistry.snapshot());
+    }
+
+    @GetMapping(value = "/admin/metrics/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public ResponseEntity<String> getPrometheusMetrics() {
+        return ResponseEntity.ok(metricsRegistry.prometheus());
+    }
+
+    @GetMapping("/admin/metrics/slow-queries")
+    public ResponseEntity<List<SlowQueryResponse>> getSlowQueries() {
+        return ResponseEntity.ok(slowQueryLog.snapshot());
+    }
+}
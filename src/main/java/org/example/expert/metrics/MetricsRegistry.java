@@ -0,0 +1,180 @@
+package org.example.expert.metrics;
+
+import org.example.expert.metrics.dto.MetricsResponse;
+import org.example.expert.metrics.dto.RequestMetricsResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 애플리케이션 내부 지표 저장소.
+ * HTTP 라우트와 서비스 메서드별 RequestMetrics 를 보관하고,
+ * 다른 컴포넌트는 gauge/counter 를 Supplier 로 등록해 값은 조회 시점에 읽는다.
+ */
+@Component
+public class MetricsRegistry {
+
+    // 라우트 패턴, 서비스 메서드 이름만 key 로 사용하지만 혹시 모를 폭증에 대비해 상한을 둔다.
+    private static final int MAX_SERIES = 1_000;
+    private static final String OVERFLOW_KEY = "OTHER";
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    private final Map<String, RequestMetrics> routes = new ConcurrentHashMap<>();
+    private final Map<String, RequestMetrics> serviceMethods = new ConcurrentHashMap<>();
+    private final Map<String, SampledValue> values = new ConcurrentHashMap<>();
+
+    public RequestMetrics route(String route) {
+        return metricsOf(routes, route);
+    }
+
+    public RequestMetrics serviceMethod(String method) {
+        return metricsOf(serviceMethods, method);
+    }
+
+    public void gauge(String name, String labels, String help, Supplier<? extends Number> value) {
+        register(name, labels, help, "gauge", value);
+    }
+
+    public void counter(String name, String labels, String help, Supplier<? extends Number> value) {
+        register(name, labels, help, "counter", value);
+    }
+
+    public MetricsResponse snapshot() {
+        Map<String, Number> sampled = new TreeMap<>();
+        values.values().forEach(value -> sampled.put(value.key(), value.supplier.get()));
+        return new MetricsResponse(toResponses(routes), toResponses(serviceMethods), sampled);
+    }
+
+    /**
+     * Prometheus text exposition format (version 0.0.4)
+     */
+    public String prometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        writeRequestMetrics(out, "http_server_requests", "route", "HTTP requests by route", routes);
+        writeRequestMetrics(out, "service_method_calls", "method", "Service method calls", serviceMethods);
+
+        Map<String, List<SampledValue>> byName = new TreeMap<>();
+        values.values().forEach(value -> byName.computeIfAbsent(value.name, n -> new ArrayList<>()).add(value));
+        byName.forEach((name, series) -> {
+            SampledValue first = series.get(0);
+            out.append("# HELP ").append(name).append(' ').append(first.help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(first.type).append('\n');
+            for (SampledValue value : series) {
+                out.append(value.key()).append(' ').append(value.supplier.get()).append('\n');
+            }
+        });
+        return out.toString();
+    }
+
+    private RequestMetrics metricsOf(Map<String, RequestMetrics> metrics, String key) {
+        RequestMetrics existing = metrics.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (metrics.size() >= MAX_SERIES) {
+            key = OVERFLOW_KEY;
+        }
+        return metrics.computeIfAbsent(key, k -> new RequestMetrics());
+    }
+
+    private void register(String name, String labels, String help, String type, Supplier<? extends Number> value) {
+        SampledValue sampled = new SampledValue(name, labels, help, type, value);
+        values.put(sampled.key(), sampled);
+    }
+
+    private List<RequestMetricsResponse> toResponses(Map<String, RequestMetrics> metrics) {
+        List<RequestMetricsResponse> responses = new ArrayList<>();
+        new TreeMap<>(metrics).forEach((key, m) -> {
+            LatencyHistogram latency = m.latency();
+            long count = latency.count();
+            responses.add(new RequestMetricsResponse(
+                    key,
+                    count,
+                    m.clientErrors(),
+                    m.serverErrors(),
+                    m.ratePerSecond(),
+                    count == 0 ? 0 : latency.sumMicros() / 1000.0 / count,
+                    latency.percentileMicros(0.5) / 1000.0,
+                    latency.percentileMicros(0.99) / 1000.0,
+                    latency.percentileMicros(0.999) / 1000.0,
+                    latency.maxMicros() / 1000.0
+            ));
+        });
+        return responses;
+    }
+
+    private void writeRequestMetrics(StringBuilder out, String prefix, String label, String help,
+                                     Map<String, RequestMetrics> metrics) {
+        Map<String, RequestMetrics> sorted = new TreeMap<>(metrics);
+
+        out.append("# HELP ").append(prefix).append("_total ").append(help).append('\n');
+        out.append("# TYPE ").append(prefix).append("_total counter\n");
+        sorted.forEach((key, m) -> out.append(prefix).append("_total{").append(label).append("=\"")
+                .append(escape(key)).append("\"} ").append(m.count()).append('\n'));
+
+        out.append("# HELP ").append(prefix).append("_errors_total ").append(help).append(" that failed\n");
+        out.append("# TYPE ").append(prefix).append("_errors_total counter\n");
+        sorted.forEach((key, m) -> {
+            String labels = label + "=\"" + escape(key) + "\"";
+            out.append(prefix).append("_errors_total{").append(labels).append(",class=\"4xx\"} ").append(m.clientErrors()).append('\n');
+            out.append(prefix).append("_errors_total{").append(labels).append(",class=\"5xx\"} ").append(m.serverErrors()).append('\n');
+        });
+
+        String duration = prefix + "_duration_seconds";
+        out.append("# HELP ").append(duration).append(' ').append(help).append(" latency\n");
+        out.append("# TYPE ").append(duration).append(" summary\n");
+        sorted.forEach((key, m) -> {
+            String labels = label + "=\"" + escape(key) + "\"";
+            LatencyHistogram latency = m.latency();
+            for (double quantile : QUANTILES) {
+                out.append(duration).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(latency.percentileMicros(quantile) / 1_000_000.0).append('\n');
+            }
+            out.append(duration).append("_sum{").append(labels).append("} ").append(latency.sumMicros() / 1_000_000.0).append('\n');
+            out.append(duration).append("_count{").append(labels).append("} ").append(latency.count()).append('\n');
+        });
+    }
+
+    /**
+     * label 값은 escape 한 뒤 key="value" 형태로 이어 붙인다.
+     */
+    public static String labels(String... keyValues) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            if (!out.isEmpty()) {
+                out.append(',');
+            }
+            out.append(keyValues[i]).append("=\"").append(escape(keyValues[i + 1])).append('"');
+        }
+        return out.toString();
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class SampledValue {
+        private final String name;
+        private final String labels;
+        private final String help;
+        private final String type;
+        private final Supplier<? extends Number> supplier;
+
+        private SampledValue(String name, String labels, String help, String type, Supplier<? extends Number> supplier) {
+            this.name = name;
+            this.labels = labels;
+            this.help = help;
+            this.type = type;
+            this.supplier = supplier;
+        }
+
+        private String key() {
+            return labels == null || labels.isEmpty() ? name : name + "{" + labels + "}";
+        }
+    }
+}
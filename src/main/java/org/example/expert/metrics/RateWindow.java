@@ -0,0 +1,46 @@
+package org.example.expert.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 60초 동안의 초당 처리량을 계산하기 위한 1초 단위 ring.
+ * 슬롯 하나에 해당 초(epoch second, 상위 32비트)와 그 초의 횟수(하위 32비트)를 함께 담아 CAS 한 번으로 바꾼다.
+ * 오래된 슬롯은 새 초의 첫 증가가 횟수 1 로 덮어쓰므로, 초기화와 증가 사이에 다른 스레드의 증가가 지워지지 않는다.
+ */
+class RateWindow {
+
+    private static final int SECONDS = 60;
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final AtomicLongArray slots = new AtomicLongArray(SECONDS);
+
+    void increment(long nowMillis) {
+        long second = nowMillis / 1000;
+        int slot = (int) (second % SECONDS);
+        while (true) {
+            long current = slots.get(slot);
+            long next = secondOf(current) == second ? current + 1 : (second << 32) | 1;
+            if (slots.compareAndSet(slot, current, next)) {
+                return;
+            }
+        }
+    }
+
+    double perSecond(long nowMillis) {
+        long now = nowMillis / 1000;
+        long sum = 0;
+        for (int slot = 0; slot < SECONDS; slot++) {
+            long value = slots.get(slot);
+            long second = secondOf(value);
+            // 진행 중인 현재 초는 제외하고 직전 60초만 합산한다.
+            if (second < now && now - second <= SECONDS) {
+                sum += value & COUNT_MASK;
+            }
+        }
+        return sum / (double) SECONDS;
+    }
+
+    private static long secondOf(long value) {
+        return value >>> 32;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트(또는 서비스 메서드) 하나의 처리량, 에러 수, 지연 시간 분포.
+ */
+public class RequestMetrics {
+
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final RateWindow rate = new RateWindow();
+
+    public void record(long durationNanos, int status) {
+        latency.record(durationNanos, TimeUnit.NANOSECONDS);
+        rate.increment(System.currentTimeMillis());
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    public long count() {
+        return latency.count();
+    }
+
+    public long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    public long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    public double ratePerSecond() {
+        return rate.perSecond(System.currentTimeMillis());
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+}
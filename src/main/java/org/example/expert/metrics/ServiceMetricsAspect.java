@@ -0,0 +1,50 @@
+package org.example.expert.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 계층 public 메서드의 호출 수와 지연 시간을 기록한다.
+ * service 패키지에 함께 있는 캐시, 인덱스 같은 @Component 는 호출이 잦고 서비스 메서드 안에서 불리므로 제외하고 @Service 만 대상으로 한다.
+ * 잘못된 요청으로 인한 예외는 4xx, 그 외의 예외는 5xx 로 집계한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MetricsRegistry metricsRegistry;
+    private final Map<Method, RequestMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    @Around("execution(public * org.example.expert.domain..service..*(..)) " +
+            "&& @within(org.springframework.stereotype.Service)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RequestMetrics metrics = metricsByMethod.computeIfAbsent(method, m ->
+                metricsRegistry.serviceMethod(m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+
+        long startedAt = System.nanoTime();
+        int status = 200;
+        try {
+            return joinPoint.proceed();
+        } catch (InvalidRequestException | AuthException e) {
+            status = 400;
+            throw e;
+        } catch (Throwable e) {
+            status = 500;
+            throw e;
+        } finally {
+            metrics.record(System.nanoTime() - startedAt, status);
+        }
+    }
+}
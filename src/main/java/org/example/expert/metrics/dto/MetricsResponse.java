@@ -0,0 +1,20 @@
+package org.example.expert.metrics.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class MetricsResponse {
+
+    private final List<RequestMetricsResponse> routes;
+    private final List<RequestMetricsResponse> serviceMethods;
+    private final Map<String, Number> values;
+
+    public MetricsResponse(List<RequestMetricsResponse> routes, List<RequestMetricsResponse> serviceMethods, Map<String, Number> values) {
+        this.routes = routes;
+        this.serviceMethods = serviceMethods;
+        this.values = values;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.metrics.dto;
+
+import lombok.Getter;
+
+@Getter
+public class RequestMetricsResponse {
+
+    private final String name;
+    private final long count;
+    private final long clientErrors;
+    private final long serverErrors;
+    private final double ratePerSecond;
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+
+    public RequestMetricsResponse(String name, long count, long clientErrors, long serverErrors, double ratePerSecond,
+                                  double meanMs, double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+        this.name = name;
+        this.count = count;
+        this.clientErrors = clientErrors;
+        this.serverErrors = serverErrors;
+        this.ratePerSecond = ratePerSecond;
+        this.meanMs = meanMs;
+        this.p50Ms = p50Ms;
+        this.p99Ms = p99Ms;
+        this.p999Ms = p999Ms;
+        this.maxMs = maxMs;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.metrics.dto;
+
+import lombok.Getter;
+
+@Getter
+public class SlowQueryResponse {
+
+    private final String sql;
+    private final String parameterTypes;
+    private final String route;
+    private final String repository;
+    private final long count;
+    private final double maxMs;
+    private final double meanMs;
+
+    public SlowQueryResponse(String sql, String parameterTypes, String route, String repository,
+                             long count, double maxMs, double meanMs) {
+        this.sql = sql;
+        this.parameterTypes = parameterTypes;
+        this.route = route;
+        this.repository = repository;
+        this.count = count;
+        this.maxMs = maxMs;
+        this.meanMs = meanMs;
+    }
+}
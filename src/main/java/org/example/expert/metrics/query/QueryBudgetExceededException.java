@@ -0,0 +1,10 @@
+package org.example.expert.metrics.query;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+public class QueryBudgetExceededException extends ServerException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.metrics.query;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.*;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.LongRunningRoutes;
+import org.example.expert.config.RequestPaths;
+import org.example.expert.metrics.MetricsFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 동안 실행된 statement 를 RequestQueryStats 로 모으고, 요청이 끝나면 QueryTracker 에 예산 검사를 맡긴다.
+ * route 이름은 앞에서 실행된 MetricsFilter 가 남긴 값을 그대로 사용한다.
+ * 일괄 처리 API (LongRunningRoutes) 는 예산 검사에서 제외한다.
+ */
+@RequiredArgsConstructor
+public class QueryBudgetFilter implements Filter {
+
+    private final QueryTracker queryTracker;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (LongRunningRoutes.matches(RequestPaths.lookupPath(httpRequest))) {
+            // 청크마다 statement 를 실행하므로 요청 단위 예산을 적용하지 않는다.
+            chain.doFilter(request, response);
+            return;
+        }
+        Object route = request.getAttribute(MetricsFilter.ROUTE_ATTRIBUTE);
+        if (route == null) {
+            route = httpRequest.getMethod() + " " + RequestPaths.lookupPath(httpRequest);
+        }
+
+        RequestQueryStats stats = QueryContext.begin((String) route);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryContext.end();
+            queryTracker.complete(stats);
+        }
+    }
+}
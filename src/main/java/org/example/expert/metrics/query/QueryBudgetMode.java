@@ -0,0 +1,8 @@
+package org.example.expert.metrics.query;
+
+public enum QueryBudgetMode {
+    // 예산을 넘긴 요청을 로그로만 남긴다.
+    LOG,
+    // 예산을 넘기는 순간 다음 statement 를 실행하지 않고 요청을 실패시킨다.
+    REJECT
+}
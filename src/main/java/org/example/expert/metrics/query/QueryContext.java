@@ -0,0 +1,49 @@
+package org.example.expert.metrics.query;
+
+/**
+ * 현재 스레드의 요청별 쿼리 통계와 실행 중인 repository 메서드.
+ * 요청 밖(스케줄러, audit writer 등)에서 실행된 statement 는 통계 없이 repository 이름만 남는다.
+ */
+final class QueryContext {
+
+    private static final ThreadLocal<RequestQueryStats> STATS = new ThreadLocal<>();
+    private static final ThreadLocal<String> REPOSITORY = new ThreadLocal<>();
+
+    private QueryContext() {
+    }
+
+    static RequestQueryStats begin(String route) {
+        RequestQueryStats stats = new RequestQueryStats(route);
+        STATS.set(stats);
+        return stats;
+    }
+
+    static RequestQueryStats current() {
+        return STATS.get();
+    }
+
+    static void end() {
+        STATS.remove();
+    }
+
+    /**
+     * repository 호출이 중첩될 수 있으므로 이전 값을 돌려주고, 호출이 끝나면 exitRepository 로 되돌린다.
+     */
+    static String enterRepository(String repository) {
+        String previous = REPOSITORY.get();
+        REPOSITORY.set(repository);
+        return previous;
+    }
+
+    static void exitRepository(String previous) {
+        if (previous == null) {
+            REPOSITORY.remove();
+        } else {
+            REPOSITORY.set(previous);
+        }
+    }
+
+    static String repository() {
+        return REPOSITORY.get();
+    }
+}
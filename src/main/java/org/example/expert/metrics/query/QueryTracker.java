@@ -0,0 +1,116 @@
+package org.example.expert.metrics.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.RateLimitedLogger;
+import org.example.expert.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource proxy 가 실행한 모든 statement 를 받아 요청별 통계, 전역 카운터, SlowQueryLog 에 기록하고
+ * 요청당 statement 수 / DB 시간 예산을 검사한다.
+ * LOG 모드에서는 요청이 끝난 뒤 예산 초과를 로그로 남기고, REJECT 모드에서는 예산을 다 쓴 요청의 다음 statement 를 막는다.
+ */
+@Slf4j
+@Component
+public class QueryTracker {
+
+    static final String BACKGROUND_ROUTE = "BACKGROUND";
+
+    private final SlowQueryLog slowQueryLog;
+    private final int maxStatements;
+    private final long maxDbNanos;
+    private final QueryBudgetMode mode;
+    private final RateLimitedLogger budgetLog = new RateLimitedLogger(log, Duration.ofSeconds(10));
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder dbNanos = new LongAdder();
+    private final LongAdder overBudget = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public QueryTracker(SlowQueryLog slowQueryLog,
+                        MetricsRegistry metricsRegistry,
+                        @Value("${query.budget.max-statements:20}") int maxStatements,
+                        @Value("${query.budget.max-db-time-ms:1000}") long maxDbTimeMs,
+                        @Value("${query.budget.mode:LOG}") QueryBudgetMode mode) {
+        this.slowQueryLog = slowQueryLog;
+        this.maxStatements = maxStatements;
+        this.maxDbNanos = TimeUnit.MILLISECONDS.toNanos(maxDbTimeMs);
+        this.mode = mode;
+
+        metricsRegistry.counter("db_statements_total", "", "JDBC statements executed", statements::sum);
+        metricsRegistry.counter("db_statement_seconds_total", "", "Time spent executing JDBC statements",
+                () -> dbNanos.sum() / 1_000_000_000.0);
+        metricsRegistry.counter("db_query_budget_exceeded_total", "", "Requests that exceeded the query budget", overBudget::sum);
+        metricsRegistry.counter("db_query_budget_rejected_total", "", "Statements rejected by the query budget", rejected::sum);
+    }
+
+    /**
+     * REJECT 모드에서 현재 요청이 이미 예산을 다 썼으면 statement 를 실행하지 않고 예외를 던진다.
+     */
+    void beforeStatement() {
+        if (mode != QueryBudgetMode.REJECT) {
+            return;
+        }
+        RequestQueryStats stats = QueryContext.current();
+        if (stats != null && (stats.getStatements() >= maxStatements || stats.getDbNanos() >= maxDbNanos)) {
+            rejected.increment();
+            throw new QueryBudgetExceededException("요청당 쿼리 한도를 초과했습니다.");
+        }
+    }
+
+    void afterStatement(String sql, String[] parameterTypes, int parameterCount, long nanos) {
+        statements.increment();
+        dbNanos.add(nanos);
+
+        RequestQueryStats stats = QueryContext.current();
+        String repository = QueryContext.repository();
+        if (stats != null) {
+            stats.record(nanos, sql, repository);
+        }
+        if (slowQueryLog.isSlow(nanos)) {
+            slowQueryLog.offer(nanos, sql, shapeOf(parameterTypes, parameterCount),
+                    stats == null ? BACKGROUND_ROUTE : stats.getRoute(), repository);
+        }
+    }
+
+    /**
+     * 요청이 끝날 때 호출되며 예산을 넘긴 요청을 route 별로 기록한다.
+     */
+    void complete(RequestQueryStats stats) {
+        if (stats.getStatements() <= maxStatements && stats.getDbNanos() <= maxDbNanos) {
+            return;
+        }
+        overBudget.increment();
+        budgetLog.warn(stats.getRoute(), String.format(
+                "요청당 쿼리 한도 초과: route=%s, statements=%d/%d, dbTime=%.1fms/%dms, slowest=%.1fms [%s] %s",
+                stats.getRoute(),
+                stats.getStatements(), maxStatements,
+                stats.getDbNanos() / 1_000_000.0, TimeUnit.NANOSECONDS.toMillis(maxDbNanos),
+                stats.getSlowestNanos() / 1_000_000.0, stats.getSlowestRepository(), stats.getSlowestSql()));
+    }
+
+    long overBudgetCount() {
+        return overBudget.sum();
+    }
+
+    // 바인드 값은 남기지 않고 타입만 "[Long, String]" 형태로 남긴다.
+    static String shapeOf(String[] parameterTypes, int parameterCount) {
+        if (parameterCount == 0) {
+            return "[]";
+        }
+        StringBuilder shape = new StringBuilder("[");
+        for (int i = 1; i <= parameterCount; i++) {
+            if (i > 1) {
+                shape.append(", ");
+            }
+            String type = parameterTypes[i];
+            shape.append(type == null ? "?" : type);
+        }
+        return shape.append(']').toString();
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.expert.metrics.query;
+
+import org.example.expert.config.DeadlineExceededException;
+import org.example.expert.config.RequestDeadline;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 JDK proxy 로 감싸 Connection, Statement 를 거쳐 실행되는 모든 statement 를 QueryTracker 에 전달한다.
+ * JPA, JdbcTemplate 모두 같은 DataSource 를 쓰므로 어느 경로로 실행된 SQL 이든 빠지지 않는다.
+ * 요청에 deadline 이 있으면 남은 시간을 statement 의 query timeout 으로 지정하고, 이미 지났으면 실행하지 않는다.
+ * QueryTracker 는 다른 빈에 의존하므로 BeanPostProcessor 생성 시점이 아니라 첫 connection 을 얻을 때 가져온다.
+ */
+@Component
+public class QueryTrackingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryTracker> queryTracker;
+
+    public QueryTrackingDataSourcePostProcessor(ObjectProvider<QueryTracker> queryTracker) {
+        this.queryTracker = queryTracker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                    new DataSourceHandler(dataSource, queryTracker));
+        }
+        return bean;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target, ObjectProvider<QueryTracker> queryTracker) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryTrackingDataSourcePostProcessor.invoke(method, target, args);
+            if (result instanceof Connection connection) {
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                        new ConnectionHandler(connection, queryTracker.getObject()));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target, QueryTracker queryTracker) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryTrackingDataSourcePostProcessor.invoke(method, target, args);
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+            // createStatement 는 Statement, prepareStatement / prepareCall 은 SQL 을 첫 번째 인자로 받는 하위 타입을 반환한다.
+            Class<?> type = method.getReturnType();
+            String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql, queryTracker));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final QueryTracker queryTracker;
+        private String sql;
+        // setQueryTimeout 으로 직접 지정된 값(초)과, deadline 으로 그보다 줄여 두었는지 여부
+        private int queryTimeoutSeconds;
+        private boolean deadlineApplied;
+        // 1 부터 시작하는 바인드 파라미터 위치별 타입 이름
+        private String[] parameterTypes = new String[8];
+        private int parameterCount;
+
+        private StatementHandler(Statement target, String sql, QueryTracker queryTracker) {
+            this.target = target;
+            this.sql = sql;
+            this.queryTracker = queryTracker;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordParameter(index, name.equals("setNull") || args[1] == null ? "NULL" : args[1].getClass().getSimpleName());
+            } else if (name.equals("setQueryTimeout")) {
+                queryTimeoutSeconds = (Integer) args[0];
+                deadlineApplied = false;
+            } else if (name.equals("clearParameters")) {
+                parameterCount = 0;
+            } else if (name.equals("addBatch") && args != null && args.length == 1) {
+                sql = (String) args[0];
+            }
+            return QueryTrackingDataSourcePostProcessor.invoke(method, target, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String executed = args != null && args.length > 0 && args[0] instanceof String statementSql ? statementSql : sql;
+            applyDeadline();
+            queryTracker.beforeStatement();
+            long startedAt = System.nanoTime();
+            try {
+                return QueryTrackingDataSourcePostProcessor.invoke(method, target, args);
+            } finally {
+                queryTracker.afterStatement(executed == null ? "" : executed, parameterTypes, parameterCount,
+                        System.nanoTime() - startedAt);
+            }
+        }
+
+        // JDBC query timeout 은 초 단위이므로 남은 시간을 올림한다.
+        private void applyDeadline() throws SQLException {
+            long remaining = RequestDeadline.remainingNanos();
+            if (remaining == RequestDeadline.NONE) {
+                if (deadlineApplied) {
+                    target.setQueryTimeout(queryTimeoutSeconds);
+                    deadlineApplied = false;
+                }
+                return;
+            }
+            if (remaining <= 0) {
+                throw new DeadlineExceededException();
+            }
+            long seconds = (remaining + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+            if (queryTimeoutSeconds == 0 || seconds < queryTimeoutSeconds) {
+                target.setQueryTimeout((int) Math.min(seconds, Integer.MAX_VALUE));
+                deadlineApplied = true;
+            }
+        }
+
+        private void recordParameter(int index, String type) {
+            if (index <= 0) {
+                return;
+            }
+            if (index >= parameterTypes.length) {
+                parameterTypes = Arrays.copyOf(parameterTypes, Math.max(index + 1, parameterTypes.length * 2));
+            }
+            parameterTypes[index] = type;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.metrics.query;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Spring Data repository 호출 동안 "TodoRepository.findAllByOrderByModifiedAtDesc" 같은 이름을 QueryContext 에 남겨
+ * 그 사이에 실행된 statement 가 어느 repository 메서드에서 나왔는지 알 수 있게 한다.
+ */
+@Aspect
+@Component
+public class RepositoryQueryAspect {
+
+    // repository proxy 클래스 -> 애플리케이션이 선언한 repository 인터페이스 이름
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith("org.example.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        }
+    };
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object attribute(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = REPOSITORY_NAMES.get(joinPoint.getThis().getClass()) + "." + joinPoint.getSignature().getName();
+        String previous = QueryContext.enterRepository(repository);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            QueryContext.exitRepository(previous);
+        }
+    }
+}
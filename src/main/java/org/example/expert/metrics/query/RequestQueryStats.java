@@ -0,0 +1,32 @@
+package org.example.expert.metrics.query;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나가 실행한 statement 수, DB 시간, 가장 느린 statement.
+ * 요청을 처리하는 스레드에서만 읽고 쓴다.
+ */
+@Getter
+public class RequestQueryStats {
+
+    private final String route;
+    private int statements;
+    private long dbNanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private String slowestRepository;
+
+    RequestQueryStats(String route) {
+        this.route = route;
+    }
+
+    void record(long nanos, String sql, String repository) {
+        statements++;
+        dbNanos += nanos;
+        if (nanos > slowestNanos) {
+            slowestNanos = nanos;
+            slowestSql = sql;
+            slowestRepository = repository;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.expert.metrics.query;
+
+import org.example.expert.metrics.dto.SlowQueryResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * threshold 보다 느린 statement 중 가장 느린 상위 N 개를 보관한다.
+ * 같은 SQL 이 반복해서 목록을 채우지 않도록 (route, repository, SQL, 바인드 파라미터 타입) 단위로 묶어
+ * 최대 시간, 횟수, 누적 시간을 기록하고, 가득 차면 최대 시간이 가장 짧은 항목을 내보낸다.
+ * threshold 이하의 statement 는 lock 없이 바로 반환한다.
+ */
+@Component
+public class SlowQueryLog {
+
+    private static final int MAX_SQL_LENGTH = 2_000;
+
+    private final int capacity;
+    private final long thresholdNanos;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SlowQueryLog(@Value("${query.slow-log.size:50}") int capacity,
+                        @Value("${query.slow-log.threshold-ms:20}") long thresholdMs) {
+        this.capacity = capacity;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+    }
+
+    public boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    public void offer(long nanos, String sql, String parameterTypes, String route, String repository) {
+        if (!isSlow(nanos)) {
+            return;
+        }
+        String key = route + '\n' + repository + '\n' + sql + '\n' + parameterTypes;
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                if (entries.size() >= capacity && !evictFasterThan(nanos)) {
+                    return;
+                }
+                entry = new Entry(truncate(sql), parameterTypes, route, repository);
+                entries.put(key, entry);
+            }
+            entry.record(nanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<SlowQueryResponse> snapshot() {
+        List<Entry> copied;
+        lock.lock();
+        try {
+            copied = new ArrayList<>(entries.size());
+            for (Entry entry : entries.values()) {
+                copied.add(entry.copy());
+            }
+        } finally {
+            lock.unlock();
+        }
+        copied.sort(Comparator.comparingLong((Entry entry) -> entry.maxNanos).reversed());
+
+        List<SlowQueryResponse> responses = new ArrayList<>(copied.size());
+        for (Entry entry : copied) {
+            responses.add(new SlowQueryResponse(
+                    entry.sql,
+                    entry.parameterTypes,
+                    entry.route,
+                    entry.repository,
+                    entry.count,
+                    entry.maxNanos / 1_000_000.0,
+                    entry.totalNanos / 1_000_000.0 / entry.count
+            ));
+        }
+        return responses;
+    }
+
+    // 가득 찼을 때 새 statement 보다 빠른 항목이 있으면 그중 가장 빠른 항목을 내보낸다.
+    private boolean evictFasterThan(long nanos) {
+        String fastestKey = null;
+        long fastestNanos = nanos;
+        for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+            if (candidate.getValue().maxNanos < fastestNanos) {
+                fastestKey = candidate.getKey();
+                fastestNanos = candidate.getValue().maxNanos;
+            }
+        }
+        if (fastestKey == null) {
+            return false;
+        }
+        entries.remove(fastestKey);
+        return true;
+    }
+
+    private static String truncate(String sql) {
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    private static final class Entry {
+        private final String sql;
+        private final String parameterTypes;
+        private final String route;
+        private final String repository;
+        private long count;
+        private long maxNanos;
+        private long totalNanos;
+
+        private Entry(String sql, String parameterTypes, String route, String repository) {
+            this.sql = sql;
+            this.parameterTypes = parameterTypes;
+            this.route = route;
+            this.repository = repository;
+        }
+
+        private void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private Entry copy() {
+            Entry copied = new Entry(sql, parameterTypes, route, repository);
+            copied.count = count;
+            copied.maxNanos = maxNanos;
+            copied.totalNanos = totalNanos;
+            return copied;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.expert.cachesync;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserProfileCache;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 같은 H2 TCP 서버를 쓰는 애플리케이션 컨텍스트 두 개로 노드 간 캐시 무효화를 확인한다.
+ * 폴링 주기는 길게 두고 테스트에서 poll() 을 직접 호출한다.
+ */
+class CacheChangePollerClusterTest {
+
+    private static Server h2;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        h2 = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + port + "/mem:cluster" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        nodeA = startNode(url, "create-drop");
+        nodeB = startNode(url, "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (h2 != null) {
+            h2.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드에서 권한을 바꾸면 다른 노드는 변경 로그를 읽고 캐시된 유저를 지운다")
+    void invalidatesOtherNode() {
+        // given
+        User user = saveUser("role");
+        UserProfileCache cacheB = nodeB.getBean(UserProfileCache.class);
+        cacheB.find(user.getId());
+
+        // when
+        nodeA.getBean(UserAdminService.class).changeUserRole(user.getId(), new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        assertTrue(cacheB.peek(user.getId()).isPresent());
+        nodeB.getBean(CacheChangePoller.class).poll();
+        assertTrue(cacheB.peek(user.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("먼저 id 를 받았지만 늦게 커밋된 변경도 gap 으로 다시 조회해 반영한다")
+    void appliesChangeCommittedOutOfOrder() throws Exception {
+        // given
+        User first = saveUser("gap-first");
+        User second = saveUser("gap-second");
+        UserProfileCache cacheB = nodeB.getBean(UserProfileCache.class);
+        cacheB.find(first.getId());
+        cacheB.find(second.getId());
+        CacheChangePoller pollerB = nodeB.getBean(CacheChangePoller.class);
+        pollerB.poll();
+
+        CacheChangeLog logA = nodeA.getBean(CacheChangeLog.class);
+        TransactionTemplate transactionA = new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class));
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slowTransaction = CompletableFuture.runAsync(() -> transactionA.executeWithoutResult(status -> {
+            logA.record(CacheName.USER, first.getId());
+            recorded.countDown();
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(recorded.await(10, TimeUnit.SECONDS));
+
+        // when: 더 큰 id 가 먼저 커밋된다.
+        transactionA.executeWithoutResult(status -> logA.record(CacheName.USER, second.getId()));
+        pollerB.poll();
+
+        // then
+        assertTrue(cacheB.peek(second.getId()).isEmpty());
+        assertFalse(cacheB.peek(first.getId()).isEmpty());
+
+        commit.countDown();
+        slowTransaction.get(10, TimeUnit.SECONDS);
+        pollerB.poll();
+        assertTrue(cacheB.peek(first.getId()).isEmpty());
+    }
+
+    private static ConfigurableApplicationContext startNode(String url, String ddlAuto) {
+        // properties() 는 application.yml 보다 우선순위가 낮으므로 명령행 인자로 넘긴다.
+        return new SpringApplicationBuilder(ExpertApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+    }
+
+    private static User saveUser(String prefix) {
+        return nodeA.getBean(UserRepository.class)
+                .save(new User(prefix + System.nanoTime() + "@example.com", "password", UserRole.USER));
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("연속 실패가 threshold 에 닿으면 열리고 호출을 거절")
+    void opensAfterConsecutiveFailures() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onFailure();
+        }
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(1, circuitBreaker.rejected());
+        assertEquals(1, circuitBreaker.opened());
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 연속 실패 횟수가 초기화된다")
+    void successResetsFailures() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    @DisplayName("open 시간이 지나면 probe 하나만 통과시키고, 성공하면 닫힌다")
+    void halfOpenProbeSucceeds() {
+        // given
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // when
+        boolean probe = circuitBreaker.tryAcquire();
+        boolean concurrent = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertTrue(probe);
+        assertFalse(concurrent);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("probe 가 실패하면 다시 open 시간만큼 거절")
+    void halfOpenProbeFails() {
+        // given
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // when
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertFalse(circuitBreaker.tryAcquire());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
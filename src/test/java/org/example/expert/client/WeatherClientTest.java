@@ -0,0 +1,169 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.config.DeadlineExceededException;
+import org.example.expert.config.RequestDeadline;
+import org.example.expert.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 stub 서버를 상대로 timeout, fallback, circuit breaker 동작을 확인한다.
+ */
+class WeatherClientTest {
+
+    private static final String FALLBACK = "Unknown";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+    private volatile byte[] body;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/f-api/weather.json", exchange -> {
+            requests.incrementAndGet();
+            try (exchange) {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                byte[] responseBody = body;
+                exchange.sendResponseHeaders(status, responseBody.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(responseBody);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), new MetricsRegistry(),
+                "http://localhost:" + server.getAddress().getPort(),
+                4, 200, 200, 100, 2, 300, FALLBACK);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        weatherClient.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("오늘 날씨 조회 성공")
+    void getTodayWeather() {
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.circuitState());
+    }
+
+    @Test
+    @DisplayName("응답이 response timeout 보다 늦으면 기다리지 않고 fallback")
+    void timeout() {
+        // given
+        delayMillis = 2_000;
+
+        // when
+        long startedAt = System.nanoTime();
+        String weather = weatherClient.getTodayWeather();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertEquals(FALLBACK, weather);
+        assertTrue(elapsedMillis < 1_500, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("요청 deadline 이 response timeout 보다 짧으면 남은 시간만 기다리고, circuit breaker 에 실패로 세지 않는다")
+    void deadline() {
+        // given
+        delayMillis = 150;
+
+        for (int i = 0; i < 3; i++) {
+            RequestDeadline.begin(TimeUnit.MILLISECONDS.toNanos(50));
+            try {
+                // when & then
+                assertThrows(DeadlineExceededException.class, weatherClient::getTodayWeather);
+            } finally {
+                RequestDeadline.end();
+            }
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.circuitState());
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하면 circuit 이 열려 외부 API 를 호출하지 않는다")
+    void opensCircuit() {
+        // given
+        status = 500;
+
+        // when
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(FALLBACK, weather);
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.circuitState());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    @DisplayName("200 이어도 데이터가 없거나 오늘 날씨가 없으면 fallback 하고 실패로 세어 circuit 이 열린다")
+    void opensCircuitOnUnusablePayload() {
+        // given
+        body = "[]".getBytes(StandardCharsets.UTF_8);
+        assertEquals(FALLBACK, weatherClient.getTodayWeather());
+        body = "[{\"date\":\"00-00\",\"weather\":\"Sunny\"}]".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(FALLBACK, weather);
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.circuitState());
+        assertEquals(FALLBACK, weatherClient.getTodayWeather());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    @DisplayName("open 시간이 지나면 probe 요청이 성공해 다시 닫힌다")
+    void recoversAfterProbe() throws InterruptedException {
+        // given
+        status = 500;
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+        status = 200;
+
+        // when
+        Thread.sleep(350);
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.circuitState());
+        assertEquals(3, requests.get());
+    }
+}
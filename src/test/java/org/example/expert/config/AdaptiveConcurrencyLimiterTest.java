@@ -0,0 +1,150 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.config.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(true, initialLimit, 4, 200, Duration.ofNanos(WINDOW_NANOS), 1, 1.0, clock::get);
+    }
+
+    // limit 만큼 동시에 처리한 뒤 같은 응답 시간으로 모두 끝내고 window 를 닫는다.
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, long rttMillis) {
+        int limit = limiter.limit();
+        for (int i = 0; i < limit; i++) {
+            assertTrue(limiter.tryAcquire(Priority.HIGH));
+        }
+        clock.addAndGet(WINDOW_NANOS);
+        for (int i = 0; i < limit; i++) {
+            limiter.release(Duration.ofMillis(rttMillis).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("우선순위가 낮을수록 한도의 더 작은 몫만 사용한다")
+    void shedsLowPriorityFirst() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(Priority.HIGH);
+        }
+
+        // when & then
+        assertFalse(limiter.tryAcquire(Priority.LOW));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(Priority.NORMAL));
+        }
+        assertFalse(limiter.tryAcquire(Priority.NORMAL));
+        assertTrue(limiter.tryAcquire(Priority.HIGH));
+        assertFalse(limiter.tryAcquire(Priority.HIGH));
+
+        assertEquals(1, limiter.rejected(Priority.LOW));
+        assertEquals(1, limiter.rejected(Priority.NORMAL));
+        assertEquals(1, limiter.rejected(Priority.HIGH));
+    }
+
+    @Test
+    @DisplayName("응답 시간이 유지되면 한도가 늘어난다")
+    void growsWhileLatencyIsStable() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter, 10);
+        }
+
+        // then
+        assertTrue(limiter.limit() > 20, "limit=" + limiter.limit());
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준보다 크게 늘어나면 한도가 줄어든다")
+    void shrinksWhenLatencyRises() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(100);
+        runWindow(limiter, 10);
+        int before = limiter.limit();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            runWindow(limiter, 100);
+        }
+
+        // then
+        assertTrue(limiter.limit() < before / 2, "before=" + before + ", after=" + limiter.limit());
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않는 동안에는 한도를 바꾸지 않는다")
+    void keepsLimitWhenUnderused() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(100);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(Priority.HIGH);
+            clock.addAndGet(WINDOW_NANOS);
+            limiter.release(Duration.ofMillis(10).toNanos());
+        }
+
+        // then
+        assertEquals(100, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("뒤의 필터가 핸들러 전에 바로 거절한 요청은 RTT 표본에 넣지 않는다")
+    void fastRejectionsDoNotRaiseLimit() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        AdaptiveLimitFilter filter = new AdaptiveLimitFilter(limiter, new ErrorResponseCache(new ObjectMapper()));
+        FilterChain rejectingChain = (request, response) -> ((HttpServletResponse) response).setStatus(503);
+        // 다른 요청들이 한도를 거의 채운 채 처리 중이다.
+        for (int i = 0; i < 9; i++) {
+            assertTrue(limiter.tryAcquire(Priority.HIGH));
+        }
+
+        // when
+        for (int window = 0; window < 5; window++) {
+            clock.addAndGet(WINDOW_NANOS);
+            for (int i = 0; i < 20; i++) {
+                filter.doFilter(new MockHttpServletRequest("POST", "/todos"), new MockHttpServletResponse(), rejectingChain);
+            }
+        }
+
+        // then
+        assertEquals(10, limiter.limit());
+        assertEquals(9, limiter.inFlight());
+
+        // 핸들러까지 간 요청은 표본이 되어 window 를 닫는다.
+        filter.doFilter(new MockHttpServletRequest("POST", "/todos"), new MockHttpServletResponse(),
+                (request, response) -> AdaptiveLimitFilter.markHandled((HttpServletRequest) request));
+        assertTrue(limiter.limit() > 10, "limit=" + limiter.limit());
+    }
+
+    @Test
+    @DisplayName("관리자 API 는 LOW, 조회는 NORMAL, 로그인과 변경 요청은 HIGH")
+    void priorities() {
+        assertEquals(Priority.LOW, AdaptiveLimitFilter.priorityOf("GET", "/admin/audits"));
+        assertEquals(Priority.NORMAL, AdaptiveLimitFilter.priorityOf("GET", "/todos"));
+        assertEquals(Priority.HIGH, AdaptiveLimitFilter.priorityOf("POST", "/todos"));
+        assertEquals(Priority.HIGH, AdaptiveLimitFilter.priorityOf("POST", "/auth/signin"));
+    }
+}
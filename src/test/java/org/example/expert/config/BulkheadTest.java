@@ -0,0 +1,86 @@
+package org.example.expert.config;
+
+import org.example.expert.metrics.MetricsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    @Test
+    @DisplayName("permit 이 남아 있으면 바로 통과하고, release 하면 돌려받는다")
+    void acquireAndRelease() throws InterruptedException {
+        // given
+        Bulkhead bulkhead = new Bulkhead("api", 2, 0, Duration.ZERO);
+
+        // when & then
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertEquals(2, bulkhead.inUse());
+        assertFalse(bulkhead.tryAcquire());
+
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+        assertEquals(1, bulkhead.rejected());
+    }
+
+    @Test
+    @DisplayName("queue timeout 안에 permit 이 반환되면 기다렸다가 통과")
+    void waitsForPermit() throws InterruptedException {
+        // given
+        Bulkhead bulkhead = new Bulkhead("auth", 1, 1, Duration.ofSeconds(5));
+        bulkhead.tryAcquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                if (bulkhead.tryAcquire()) {
+                    acquired.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        waiter.start();
+        while (bulkhead.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        bulkhead.release();
+
+        // then
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.rejected());
+    }
+
+    @Test
+    @DisplayName("queue timeout 이 지나면 거절")
+    void rejectsAfterTimeout() throws InterruptedException {
+        // given
+        Bulkhead bulkhead = new Bulkhead("admin", 1, 1, Duration.ofMillis(20));
+        bulkhead.tryAcquire();
+
+        // when & then
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(1, bulkhead.rejected());
+        assertEquals(0, bulkhead.waiting());
+    }
+
+    @Test
+    @DisplayName("URL prefix 로 라우트 그룹을 나눈다")
+    void groups() {
+        // given
+        Bulkheads bulkheads = new Bulkheads(new MetricsRegistry(), 1, 1, 1, 1, 1, 1, 1, 1, 1);
+
+        // when & then
+        assertEquals("auth", bulkheads.forUri("/auth/signin").name());
+        assertEquals("admin", bulkheads.forUri("/admin/users/1").name());
+        assertEquals("api", bulkheads.forUri("/todos/1").name());
+        assertEquals("api", bulkheads.forUri("/authors").name());
+    }
+}
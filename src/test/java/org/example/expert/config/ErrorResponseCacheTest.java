@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseCacheTest {
+
+    private final ErrorResponseCache errorResponseCache = new ErrorResponseCache(new ObjectMapper());
+
+    @Test
+    @DisplayName("등록한 상태 코드와 메시지는 직렬화된 본문을 재사용")
+    void body_cached() {
+        // given
+        errorResponseCache.register(HttpStatus.BAD_REQUEST, "Todo not found");
+
+        // when
+        byte[] first = errorResponseCache.body(HttpStatus.BAD_REQUEST, "Todo not found");
+        byte[] second = errorResponseCache.body(HttpStatus.BAD_REQUEST, "Todo not found");
+
+        // then
+        assertSame(first, second);
+        assertEquals("{\"status\":\"BAD_REQUEST\",\"code\":400,\"message\":\"Todo not found\"}",
+                new String(first, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 메시지는 캐시에 넣지 않고 매번 직렬화")
+    void body_notRegistered() {
+        // when
+        byte[] first = errorResponseCache.body(HttpStatus.BAD_REQUEST, "앞의 3명은 처리되었습니다.");
+        byte[] second = errorResponseCache.body(HttpStatus.BAD_REQUEST, "앞의 3명은 처리되었습니다.");
+
+        // then
+        assertNotSame(first, second);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("ResponseEntity 로 변환")
+    void toResponseEntity() {
+        // when
+        ResponseEntity<byte[]> response = errorResponseCache.toResponseEntity(HttpStatus.UNAUTHORIZED, "잘못된 비밀번호입니다.");
+
+        // then
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    @DisplayName("필터에서 응답에 직접 기록")
+    void write() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponseCache.write(response, HttpStatus.FORBIDDEN, "관리자 권한이 없습니다.");
+
+        // then
+        assertEquals(403, response.getStatus());
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("관리자 권한이 없습니다."));
+    }
+}
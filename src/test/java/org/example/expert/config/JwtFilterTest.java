@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class JwtFilterTest extends QueryCountTestSupport {
+
+    @Test
+    @DisplayName("매트릭스 파라미터나 인코딩으로 admin 세그먼트를 바꿔도 관리자 권한을 요구한다")
+    void adminRouteWithEncodedSegment() throws Exception {
+        User user = saveUser(UserRole.USER);
+
+        for (String uri : new String[]{
+                "/admin;x=1/users/" + user.getId(),
+                "/admin/users;x=1/" + user.getId(),
+                "/%61dmin/users/" + user.getId(),
+                "/admin/%75sers/" + user.getId()}) {
+            mockMvc.perform(patch(URI.create(uri))
+                            .header("Authorization", tokenOf(user))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"role\":\"ADMIN\"}"))
+                    .andExpect(status().isForbidden());
+        }
+
+        assertEquals(UserRole.USER, userRepository.findById(user.getId()).orElseThrow().getUserRole());
+    }
+
+    @Test
+    @DisplayName("정규화한 경로로 관리자 핸들러를 찾으므로 관리자는 그대로 통과한다")
+    void adminRouteWithMatrixParameterForAdmin() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User user = saveUser(UserRole.USER);
+
+        mockMvc.perform(patch(URI.create("/admin;x=1/users/" + user.getId()))
+                        .header("Authorization", tokenOf(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 /admin 아래 경로도 관리자 권한을 요구한다")
+    void unmappedAdminRoute() throws Exception {
+        User user = saveUser(UserRole.USER);
+
+        mockMvc.perform(get("/admin/unknown")
+                        .header("Authorization", tokenOf(user)))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestDeadlineTest extends QueryCountTestSupport {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("deadline 이 이미 지난 요청은 컨트롤러에 들어가기 전에 504 로 중단되고 쿼리를 실행하지 않는다")
+    void abortsExpiredRequest() throws Exception {
+        // given
+        User user = saveUser(UserRole.USER);
+        Todo todo = saveTodo(user);
+        String token = tokenOf(user);
+
+        // when & then
+        assertQueryCount(0, get("/todos/{todoId}", todo.getId())
+                .header("Authorization", token)
+                .header(DeadlineFilter.TIMEOUT_HEADER, "0"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.message").value(DeadlineExceededException.MESSAGE));
+    }
+
+    @Test
+    @DisplayName("남은 시간이 있으면 요청은 그대로 처리된다")
+    void passesWithinDeadline() throws Exception {
+        // given
+        User user = saveUser(UserRole.USER);
+        Todo todo = saveTodo(user);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", tokenOf(user))
+                        .header(DeadlineFilter.TIMEOUT_HEADER, "5000"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("남은 시간을 초 단위로 올림해 JDBC query timeout 으로 지정한다")
+    void appliesQueryTimeout() throws Exception {
+        RequestDeadline.begin(TimeUnit.MILLISECONDS.toNanos(2_500));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select 1")) {
+            // when
+            statement.executeQuery().close();
+
+            // then
+            assertEquals(3, statement.getQueryTimeout());
+        } finally {
+            RequestDeadline.end();
+        }
+    }
+
+    @Test
+    @DisplayName("deadline 이 지난 뒤에는 statement 를 실행하지 않는다")
+    void rejectsStatementAfterDeadline() throws Exception {
+        RequestDeadline.begin(0);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select 1")) {
+            assertThrows(DeadlineExceededException.class, statement::executeQuery);
+        } finally {
+            RequestDeadline.end();
+        }
+    }
+}
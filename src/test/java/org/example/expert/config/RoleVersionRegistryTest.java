@@ -0,0 +1,57 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleVersionRegistryTest {
+
+    private final RoleVersionRegistry roleVersionRegistry = new RoleVersionRegistry();
+
+    @Test
+    @DisplayName("등록되지 않은 유저의 버전은 0")
+    void currentVersion_unknownUser() {
+        assertEquals(0, roleVersionRegistry.currentVersion(1L));
+        assertFalse(roleVersionRegistry.isStale(1L, 0));
+    }
+
+    @Test
+    @DisplayName("권한 변경 이전 버전의 토큰은 stale 로 판단")
+    void isStale_afterUpdate() {
+        // given
+        roleVersionRegistry.update(3L, 2);
+
+        // when & then
+        assertTrue(roleVersionRegistry.isStale(3L, 1));
+        assertFalse(roleVersionRegistry.isStale(3L, 2));
+    }
+
+    @Test
+    @DisplayName("더 작은 버전으로는 되돌아가지 않음")
+    void update_keepsMaxVersion() {
+        // given
+        roleVersionRegistry.update(3L, 5);
+
+        // when
+        roleVersionRegistry.update(3L, 4);
+
+        // then
+        assertEquals(5, roleVersionRegistry.currentVersion(3L));
+    }
+
+    @Test
+    @DisplayName("테이블이 커져도 기존 버전이 유지됨")
+    void update_grow() {
+        // given
+        for (long userId = 0; userId < 10_000; userId++) {
+            roleVersionRegistry.update(userId, (int) (userId % 7) + 1);
+        }
+
+        // when & then
+        assertEquals(10_000, roleVersionRegistry.size());
+        for (long userId = 0; userId < 10_000; userId++) {
+            assertEquals((int) (userId % 7) + 1, roleVersionRegistry.currentVersion(userId));
+        }
+    }
+}
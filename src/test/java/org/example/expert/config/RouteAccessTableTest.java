@@ -0,0 +1,66 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.enums.AccessLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteAccessTableTest {
+
+    private RouteAccessTable routeAccessTable;
+
+    @BeforeEach
+    void setUp() {
+        routeAccessTable = new RouteAccessTable(null);
+        routeAccessTable.register("/auth/signin", Set.of(RequestMethod.POST), AccessLevel.PUBLIC);
+        routeAccessTable.register("/users/{userId}", Set.of(RequestMethod.GET), AccessLevel.AUTHENTICATED);
+        routeAccessTable.register("/users/me/public", Set.of(), AccessLevel.PUBLIC);
+        routeAccessTable.register("/admin/users/{userId}", Set.of(RequestMethod.PATCH), AccessLevel.ADMIN);
+    }
+
+    @Test
+    @DisplayName("선언된 접근 권한을 메서드와 경로로 찾음")
+    void resolve_declaredRoute() {
+        assertEquals(AccessLevel.PUBLIC, routeAccessTable.resolve("POST", "/auth/signin"));
+        assertEquals(AccessLevel.ADMIN, routeAccessTable.resolve("PATCH", "/admin/users/3"));
+        assertEquals(AccessLevel.AUTHENTICATED, routeAccessTable.resolve("GET", "/users/3"));
+    }
+
+    @Test
+    @DisplayName("리터럴 세그먼트가 실패하면 변수 세그먼트로 다시 탐색")
+    void resolve_backtracksToVariable() {
+        assertEquals(AccessLevel.PUBLIC, routeAccessTable.resolve("GET", "/users/me/public"));
+        assertEquals(AccessLevel.AUTHENTICATED, routeAccessTable.resolve("GET", "/users/me"));
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 경로나 메서드는 AUTHENTICATED")
+    void resolve_unknownRoute() {
+        assertEquals(AccessLevel.AUTHENTICATED, routeAccessTable.resolve("GET", "/auth/signin"));
+        assertEquals(AccessLevel.AUTHENTICATED, routeAccessTable.resolve("GET", "/auth"));
+        assertEquals(AccessLevel.AUTHENTICATED, routeAccessTable.resolve("GET", "/nothing/here"));
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 /admin 아래 경로나 메서드는 ADMIN")
+    void resolve_unknownAdminRoute() {
+        assertEquals(AccessLevel.ADMIN, routeAccessTable.resolve("GET", "/admin/users/3"));
+        assertEquals(AccessLevel.ADMIN, routeAccessTable.resolve("GET", "/admin/nothing"));
+        assertEquals(AccessLevel.ADMIN, routeAccessTable.resolve("GET", "/admin"));
+        assertEquals(AccessLevel.AUTHENTICATED, routeAccessTable.resolve("GET", "/administrators"));
+    }
+
+    @Test
+    @DisplayName("요청 경로는 MVC 처럼 세그먼트마다 매트릭스 파라미터를 떼고 디코딩한다")
+    void lookupPath_normalizesLikeMvc() {
+        assertEquals("/admin/users/3", RequestPaths.normalize("/admin;x=1/users/3", ""));
+        assertEquals("/admin/users/3", RequestPaths.normalize("/%61dmin/users;a=b/3", ""));
+        assertEquals("/admin/users/3", RequestPaths.normalize("/app/admin/users/3", "/app"));
+        assertEquals("/", RequestPaths.normalize("/", ""));
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.audit.controller;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdminAuditControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Test
+    @DisplayName("GET /admin/audits : keyset 페이지 조회 1번")
+    void getAudits() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+
+        assertQueryCount(1, get("/admin/audits")
+                .param("userId", String.valueOf(admin.getId()))
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /admin/audits/stats : 메모리 카운터만 조회")
+    void getStats() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+
+        assertQueryCount(0, get("/admin/audits/stats")
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.example.expert.domain.audit.repository.AdminAuditRepository;
+import org.example.expert.domain.audit.writer.AdminAuditWriter;
+import org.example.expert.domain.audit.writer.AuditEventBuffer;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditServiceTest {
+
+    @Mock
+    private AdminAuditRepository adminAuditRepository;
+    @Mock
+    private AuditEventBuffer auditEventBuffer;
+    @Mock
+    private AdminAuditWriter adminAuditWriter;
+    @InjectMocks
+    private AdminAuditService adminAuditService;
+
+    private AdminAudit audit(long id) {
+        AdminAudit audit = new AdminAudit();
+        ReflectionTestUtils.setField(audit, "id", id);
+        ReflectionTestUtils.setField(audit, "userId", 1L);
+        return audit;
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 id 를 cursor 로 반환")
+    void getAudits_hasNext() {
+        // given
+        given(adminAuditRepository.findPageBefore(Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .willReturn(List.of(audit(10L), audit(9L), audit(8L)));
+
+        // when
+        CursorResponse<AdminAuditResponse> response = adminAuditService.getAudits(null, null, 2);
+
+        // then
+        assertEquals(2, response.getItems().size());
+        assertEquals(9L, response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("유저별 조회의 마지막 페이지")
+    void getAudits_lastPageByUser() {
+        // given
+        given(adminAuditRepository.findPageByUserIdBefore(1L, 9L, PageRequest.of(0, 3)))
+                .willReturn(List.of(audit(8L)));
+
+        // when
+        CursorResponse<AdminAuditResponse> response = adminAuditService.getAudits(1L, 9L, 2);
+
+        // then
+        assertEquals(1, response.getItems().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("size 범위를 벗어나면 예외")
+    void getAudits_invalidSize() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                adminAuditService.getAudits(null, null, 0));
+
+        assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.audit.writer;
+
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.example.expert.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditEventBuffer buffer;
+    private AdminAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new AuditEventBuffer(8);
+        writer = new AdminAuditWriter(buffer, jdbcTemplate, new MetricsRegistry(), 10, 200, false);
+    }
+
+    private AuditEvent event(long userId) {
+        return new AuditEvent(userId, "PATCH", "/admin/users/" + userId, "handler", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 URI 는 잘라서 보관")
+    void longRequestUri_truncated() {
+        // given
+        String uri = "/admin/users/1?q=" + "a".repeat(1000);
+
+        // when
+        AuditEvent event = new AuditEvent(1L, "GET", uri, "handler", LocalDateTime.now());
+
+        // then
+        assertEquals(AdminAudit.REQUEST_URI_LENGTH, event.getRequestUri().length());
+        assertTrue(uri.startsWith(event.getRequestUri()));
+    }
+
+    @Test
+    @DisplayName("batch 가 실패하면 한 건씩 다시 저장하고 실패한 기록만 버림")
+    void batchFailure_writesEach() {
+        // given
+        buffer.offer(event(1L));
+        buffer.offer(event(2L));
+        willThrow(new DataIntegrityViolationException("batch"))
+                .given(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        given(jdbcTemplate.update(anyString(), eq(1L), any(), any(), any(), any())).willReturn(1);
+        given(jdbcTemplate.update(anyString(), eq(2L), any(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("row"));
+
+        // when
+        int count = writer.flushOnce();
+
+        // then
+        assertEquals(2, count);
+        assertEquals(1, writer.written());
+        assertEquals(1, writer.failed());
+        verify(jdbcTemplate, times(2)).update(anyString(), any(), any(), any(), any(), any());
+    }
+}
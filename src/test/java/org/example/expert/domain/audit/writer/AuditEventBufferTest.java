@@ -0,0 +1,88 @@
+package org.example.expert.domain.audit.writer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditEventBufferTest {
+
+    private AuditEvent event(long userId) {
+        return new AuditEvent(userId, "PATCH", "/admin/users/" + userId, "handler", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼냄")
+    void offer_drain() {
+        // given
+        AuditEventBuffer buffer = new AuditEventBuffer(8);
+        buffer.offer(event(1L));
+        buffer.offer(event(2L));
+
+        // when
+        List<AuditEvent> drained = new ArrayList<>();
+        int count = buffer.drain(drained::add, 10);
+
+        // then
+        assertEquals(2, count);
+        assertEquals(1L, drained.get(0).getUserId());
+        assertEquals(2L, drained.get(1).getUserId());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("가득 차면 버리고 dropped 증가")
+    void offer_full() {
+        // given
+        AuditEventBuffer buffer = new AuditEventBuffer(4);
+        for (long i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(event(i)));
+        }
+
+        // when
+        boolean offered = buffer.offer(event(5L));
+
+        // then
+        assertFalse(offered);
+        assertEquals(1, buffer.dropped());
+
+        buffer.drain(e -> {}, 1);
+        assertTrue(buffer.offer(event(6L)));
+    }
+
+    @Test
+    @DisplayName("여러 producer 가 동시에 넣어도 유실 없이 꺼냄")
+    void offer_concurrent() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        AuditEventBuffer buffer = new AuditEventBuffer(1 << 16);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(event(i));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        int drained = buffer.drain(e -> {}, Integer.MAX_VALUE);
+        assertEquals(producers * perProducer, drained);
+        assertEquals(0, buffer.dropped());
+    }
+}
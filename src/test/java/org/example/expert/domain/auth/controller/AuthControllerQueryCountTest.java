@@ -0,0 +1,34 @@
+package org.example.expert.domain.auth.controller;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Test
+    @DisplayName("POST /auth/signup : 이메일 중복 확인, user insert")
+    void signup() throws Exception {
+        assertQueryCount(2, post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"signup-" + System.nanoTime() + "@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /auth/signin : 이메일로 유저 조회")
+    void signin() throws Exception {
+        User user = saveUser(UserRole.USER);
+
+        assertQueryCount(1, post("/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"Password1\"}"))
+                .andExpect(status().isOk());
+    }
+}
@@ -11,6 +11,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.*;
+import org.example.expert.domain.user.service.EmailPrefixIndex;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -33,6 +34,8 @@ public class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private EmailPrefixIndex emailPrefixIndex;
     @InjectMocks
     private AuthService authService;
 
@@ -52,7 +55,7 @@ public class AuthServiceTest {
         ReflectionTestUtils.setField(saveUser, "id", 3L);
 
         given(userRepository.save(any(User.class))).willReturn(saveUser);
-        given(jwtUtil.createToken(3L, "test@example.com", userRole)).willReturn(token);
+        given(jwtUtil.createToken(3L, "test@example.com", userRole, 0)).willReturn(token);
 
         // when
         SignupResponse response = authService.signup(signupRequest);
@@ -108,7 +111,7 @@ public class AuthServiceTest {
 
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
-        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn(token);
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getRoleVersion())).willReturn(token);
 
         // when
         SigninResponse response = authService.signin(signinRequest);
@@ -118,7 +121,7 @@ public class AuthServiceTest {
         assertEquals(token, response.getBearerToken());
         verify(userRepository, times(1)).findByEmail(signinRequest.getEmail());
         verify(passwordEncoder, times(1)).matches(signinRequest.getPassword(), encoderPassword);
-        verify(jwtUtil, times(1)).createToken(user.getId(), user.getEmail(), user.getUserRole());
+        verify(jwtUtil, times(1)).createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getRoleVersion());
     }
 
     @Test
@@ -0,0 +1,32 @@
+package org.example.expert.domain.comment.controller;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CommentAdminControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    @DisplayName("DELETE /admin/comments/{commentId} : comment 조회, delete, 캐시 변경 기록")
+    void deleteComment() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        Todo todo = saveTodo(admin);
+        Comment comment = commentRepository.save(new Comment("comment", admin, todo));
+
+        assertQueryCount(3, delete("/admin/comments/{commentId}", comment.getId())
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.expert.domain.comment.controller;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CommentControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    @DisplayName("POST /todos/{todoId}/comments : todo 조회, comment insert, 캐시 변경 로그 insert")
+    void saveComment() throws Exception {
+        User user = saveUser(UserRole.USER);
+        Todo todo = saveTodo(user);
+
+        assertQueryCount(3, post("/todos/{todoId}/comments", todo.getId())
+                .header("Authorization", tokenOf(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"contents\":\"comment\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /todos/{todoId}/comments : 댓글 수와 무관하게 작성자를 fetch join 한 1번의 조회")
+    void getComments() throws Exception {
+        User user = saveUser(UserRole.USER);
+        Todo todo = saveTodo(user);
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(new Comment("comment" + i, saveUser(UserRole.USER), todo));
+        }
+
+        assertQueryCount(1, get("/todos/{todoId}/comments", todo.getId())
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /comments?todoIds= : todo 수와 무관하게 윈도 함수 조회 1번, todo 마다 limit 개")
+    void getCommentsByTodoIds() throws Exception {
+        User user = saveUser(UserRole.USER);
+        Todo busy = saveTodo(user);
+        Todo quiet = saveTodo(user);
+        Todo empty = saveTodo(user);
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(new Comment("busy" + i, user, busy));
+        }
+        commentRepository.save(new Comment("quiet", user, quiet));
+
+        assertQueryCount(1, get("/comments")
+                .param("todoIds", empty.getId() + "," + busy.getId() + "," + quiet.getId())
+                .param("limit", "2")
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].todoId").value(empty.getId()))
+                .andExpect(jsonPath("$[0].comments.length()").value(0))
+                .andExpect(jsonPath("$[1].totalCount").value(5))
+                .andExpect(jsonPath("$[1].comments.length()").value(2))
+                .andExpect(jsonPath("$[1].comments[0].contents").value("busy0"))
+                .andExpect(jsonPath("$[1].comments[1].contents").value("busy1"))
+                .andExpect(jsonPath("$[2].comments[0].user.email").value(user.getEmail()));
+    }
+
+    @Test
+    @DisplayName("GET /comments?todoIds= : 입력 개수를 넘으면 조회 없이 400")
+    void getCommentsByTodoIdsTooMany() throws Exception {
+        User user = saveUser(UserRole.USER);
+        String todoIds = LongStream.rangeClosed(1, 201).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        assertQueryCount(0, get("/comments")
+                .param("todoIds", todoIds)
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,6 +1,11 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.cachesync.CacheName;
+import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -11,13 +16,17 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private CacheChangeLog cacheChangeLog;
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -26,11 +35,30 @@ public class CommentAdminServiceTest {
     public void deleteComment_success() {
         // given
         long commentId = 1L;
+        Todo todo = new Todo();
+        ReflectionTestUtils.setField(todo, "id", 2L);
+        Comment comment = new Comment("contents", null, todo);
+        given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
 
         // when
         commentAdminService.deleteComment(commentId);
 
         // then
-        verify(commentRepository, times(1)).deleteById(commentId);
+        verify(commentRepository, times(1)).delete(comment);
+        verify(cacheChangeLog).record(CacheName.TODO_COMMENTS, 2L);
+    }
+
+    @Test
+    @DisplayName("없는 댓글이면 아무것도 하지 않음")
+    public void deleteComment_notFound() {
+        // given
+        given(commentRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        commentAdminService.deleteComment(1L);
+
+        // then
+        verify(commentRepository, never()).delete(any());
+        verifyNoInteractions(cacheChangeLog);
     }
 }
@@ -1,9 +1,11 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.cachesync.CacheChangeLog;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentJdbcRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -33,7 +35,11 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
     @Mock
+    private CommentJdbcRepository commentJdbcRepository;
+    @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private CacheChangeLog cacheChangeLog;
     @InjectMocks
     private CommentService commentService;
 
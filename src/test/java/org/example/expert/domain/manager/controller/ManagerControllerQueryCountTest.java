@@ -0,0 +1,158 @@
+package org.example.expert.domain.manager.controller;
+
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ManagerControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Test
+    @DisplayName("POST /todos/{todoId}/managers : 캐시에 없는 담당자 유저 조회, 작성자 조건을 건 INSERT ... SELECT, 캐시 변경 로그 insert")
+    void saveManager() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        User managerUser = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+
+        assertQueryCount(3, post("/todos/{todoId}/managers", todo.getId())
+                .header("Authorization", tokenOf(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserId\":" + managerUser.getId() + "}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /todos/{todoId}/managers : 담당자 유저가 캐시에 있으면 INSERT ... SELECT, 캐시 변경 로그 insert 한 번씩")
+    void saveManagerWithCachedUser() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        User managerUser = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+        mockMvc.perform(get("/users/{userId}", managerUser.getId())
+                .header("Authorization", tokenOf(owner)));
+
+        assertQueryCount(2, post("/todos/{todoId}/managers", todo.getId())
+                .header("Authorization", tokenOf(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserId\":" + managerUser.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.email").value(managerUser.getEmail()));
+    }
+
+    @Test
+    @DisplayName("POST /todos/{todoId}/managers/batch : todo 조회, 유저 IN 조회, 기존 담당자 IN 조회, batch insert, 캐시 변경 로그 insert")
+    void saveManagers() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+        User assigned = saveUser(UserRole.USER);
+        managerRepository.save(new Manager(assigned, todo));
+        StringBuilder userIds = new StringBuilder().append(assigned.getId()).append(",-1");
+        for (int i = 0; i < 5; i++) {
+            userIds.append(',').append(saveUser(UserRole.USER).getId());
+        }
+
+        assertQueryCount(5, post("/todos/{todoId}/managers/batch", todo.getId())
+                .header("Authorization", tokenOf(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserIds\":[" + userIds + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.managers.length()").value(5))
+                .andExpect(jsonPath("$.alreadyAssignedUserIds[0]").value(assigned.getId()))
+                .andExpect(jsonPath("$.notFoundUserIds[0]").value(-1));
+        // 일정 작성자 + 기존 담당자 + 새 담당자 5명
+        assertEquals(7, managerRepository.findByTodoIdWithUser(todo.getId()).size());
+    }
+
+    @Test
+    @DisplayName("POST /todos/{todoId}/managers : 이미 등록된 담당자는 unique 제약으로 거절")
+    void saveDuplicateManager() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        User managerUser = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+        managerRepository.save(new Manager(managerUser, todo));
+
+        mockMvc.perform(post("/todos/{todoId}/managers", todo.getId())
+                        .header("Authorization", tokenOf(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserId\":" + managerUser.getId() + "}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("이미 등록된 담당자입니다."));
+    }
+
+    @Test
+    @DisplayName("GET /todos/{todoId}/managers : todo 조회, 담당자를 fetch join 한 조회")
+    void getManagers() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+        for (int i = 0; i < 3; i++) {
+            managerRepository.save(new Manager(saveUser(UserRole.USER), todo));
+        }
+
+        assertQueryCount(2, get("/todos/{todoId}/managers", todo.getId())
+                .header("Authorization", tokenOf(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4));
+    }
+
+    @Test
+    @DisplayName("DELETE /todos/{todoId}/managers/{managerId} : 작성자와 일정 조건을 건 delete, 캐시 변경 로그 insert 한 번씩")
+    void deleteManager() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+        Manager manager = managerRepository.save(new Manager(saveUser(UserRole.USER), todo));
+
+        assertQueryCount(2, delete("/todos/{todoId}/managers/{managerId}", todo.getId(), manager.getId())
+                .header("Authorization", tokenOf(owner)))
+                .andExpect(status().isOk());
+        assertFalse(managerRepository.existsById(manager.getId()));
+    }
+
+    @Test
+    @DisplayName("DELETE /todos/{todoId}/managers/{managerId} : 삭제되지 않으면 원인을 조회해 기존과 같은 에러를 반환")
+    void deleteManagerOfOtherTodo() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+        Todo otherTodo = saveTodo(owner);
+        Manager manager = managerRepository.save(new Manager(saveUser(UserRole.USER), otherTodo));
+
+        mockMvc.perform(delete("/todos/{todoId}/managers/{managerId}", todo.getId(), manager.getId())
+                        .header("Authorization", tokenOf(owner)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("해당 일정에 등록된 담당자가 아닙니다."));
+        mockMvc.perform(delete("/todos/{todoId}/managers/{managerId}", todo.getId(), manager.getId())
+                        .header("Authorization", tokenOf(saveUser(UserRole.USER))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("해당 일정을 만든 유저가 유효하지 않습니다."));
+        assertTrue(managerRepository.existsById(manager.getId()));
+    }
+
+    @Test
+    @DisplayName("POST /todos/{todoId}/managers : 작성자가 아니면 insert 되지 않고 기존과 같은 에러를 반환")
+    void saveManagerByOtherUser() throws Exception {
+        User owner = saveUser(UserRole.USER);
+        Todo todo = saveTodo(owner);
+        User other = saveUser(UserRole.USER);
+
+        mockMvc.perform(post("/todos/{todoId}/managers", todo.getId())
+                        .header("Authorization", tokenOf(other))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserId\":" + saveUser(UserRole.USER).getId() + "}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다."));
+    }
+}
@@ -1,17 +1,23 @@
 package org.example.expert.domain.manager.service;
 
+import org.example.expert.cachesync.CacheChangeLog;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.UserProfile;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserProfileCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,7 +31,11 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
@@ -36,6 +46,12 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ManagerJdbcRepository managerJdbcRepository;
+    @Mock
+    private UserProfileCache userProfileCache;
+    @Mock
+    private CacheChangeLog cacheChangeLog;
     @InjectMocks
     private ManagerService managerService;
 
@@ -116,7 +132,7 @@ class ManagerServiceTest {
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
         given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(userProfileCache.find(managerUserId)).willReturn(Optional.of(new UserProfile(managerUserId, managerUser.getEmail(), managerUser.getUserRole())));
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -144,7 +160,7 @@ class ManagerServiceTest {
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(manager.getId());
 
         given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(manager.getId())).willReturn(Optional.of(manager));
+        given(userProfileCache.find(manager.getId())).willReturn(Optional.of(new UserProfile(manager.getId(), manager.getEmail(), manager.getUserRole())));
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -155,4 +171,77 @@ class ManagerServiceTest {
         assertEquals(manager.getId(), response.getUser().getId());
     }
 
+    @Test
+    @DisplayName("담당자 일괄 배치 시 없는 유저와 이미 등록된 유저는 건너뛰고 나머지만 insert")
+    void saveManagers_skipsMissingAndAssigned() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        Todo todo = new Todo("title1", "content1", "Sunny", User.fromAuthUser(authUser));
+        long todoId = 1L;
+        User assigned = User.fromAuthUser(new AuthUser(2L, "a@example.com", UserRole.USER));
+        User newManager = User.fromAuthUser(new AuthUser(3L, "b@example.com", UserRole.USER));
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userRepository.findAllById(any())).willReturn(List.of(assigned, newManager));
+        given(managerRepository.findUserIdsByTodoIdAndUserIdIn(eq(todoId), any())).willReturn(List.of(2L));
+        given(managerJdbcRepository.insertAll(todoId, List.of(3L))).willReturn(List.of(10L));
+
+        // when
+        ManagerBatchSaveResponse response = managerService.saveManagers(authUser, todoId,
+                new ManagerBatchSaveRequest(List.of(2L, 3L, 4L, 3L)));
+
+        // then
+        assertEquals(1, response.getManagers().size());
+        assertEquals(10L, response.getManagers().get(0).getId());
+        assertEquals(3L, response.getManagers().get(0).getUser().getId());
+        assertEquals(List.of(2L), response.getAlreadyAssignedUserIds());
+        assertEquals(List.of(4L), response.getNotFoundUserIds());
+    }
+
+    @Test
+    @DisplayName("담당자 일괄 배치에 일정 작성자가 포함되면 예외")
+    void saveManagers_rejectsOwner() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        Todo todo = new Todo("title1", "content1", "Sunny", User.fromAuthUser(authUser));
+        given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, 1L, new ManagerBatchSaveRequest(List.of(1L, 2L))));
+
+        // then
+        assertEquals("일정 작성자는 본인을 담당자로 등록할 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("담당자 삭제는 조건부 delete 가 성공하면 todo 와 manager 를 조회하지 않는다")
+    void deleteManager_singleStatement() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        given(managerRepository.deleteByIdAndTodoIdAndTodoUserId(5L, 1L, 1L)).willReturn(1);
+
+        // when
+        managerService.deleteManager(1L, 5L, authUser);
+
+        // then
+        verify(todoRepository, never()).findById(anyLong());
+        verify(managerRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("담당자 삭제 조건이 맞지 않으면 기존과 같은 순서로 원인을 찾는다")
+    void deleteManager_diagnosesFailure() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        given(managerRepository.deleteByIdAndTodoIdAndTodoUserId(5L, 1L, 1L)).willReturn(0);
+        given(todoRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.deleteManager(1L, 5L, authUser));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+    }
 }
@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TodoControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("POST /todos : todo, 작성자 manager, 캐시 변경 로그 insert")
+    void saveTodo() throws Exception {
+        User user = saveUser(UserRole.USER);
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        assertQueryCount(3, post("/todos")
+                .header("Authorization", tokenOf(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"title\",\"contents\":\"contents\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /todos : 작성자를 fetch join 한 페이지 조회 + count")
+    void getTodos() throws Exception {
+        User user = saveUser(UserRole.USER);
+        for (int i = 0; i < 3; i++) {
+            saveTodo(saveUser(UserRole.USER));
+        }
+
+        assertQueryCount(2, get("/todos")
+                .param("page", "1")
+                .param("size", "2")
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /todos/{todoId} : 작성자를 fetch join 한 단건 조회")
+    void getTodo() throws Exception {
+        User user = saveUser(UserRole.USER);
+        Todo todo = saveTodo(user);
+
+        assertQueryCount(1, get("/todos/{todoId}", todo.getId())
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /users/me/managed-todos : managers 인덱스 range scan 한 번, cursor 로 다음 페이지")
+    void getManagedTodos() throws Exception {
+        User manager = saveUser(UserRole.USER);
+        for (int i = 0; i < 3; i++) {
+            managerRepository.save(new Manager(manager, saveTodo(saveUser(UserRole.USER))));
+        }
+        saveTodo(saveUser(UserRole.USER));
+        String token = tokenOf(manager);
+
+        MvcResult first = assertQueryCount(1, get("/users/me/managed-todos")
+                .param("size", "2")
+                .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNumber())
+                .andReturn();
+        long nextCursor = ((Number) JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor")).longValue();
+
+        assertQueryCount(1, get("/users/me/managed-todos")
+                .param("size", "2")
+                .param("cursor", String.valueOf(nextCursor))
+                .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(lessThan((int) nextCursor)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("담당 일정 조회는 managers(user_id, todo_id) 인덱스를 사용한다")
+    void managedTodosUseReverseIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT m.todo_id FROM managers m WHERE m.user_id = 1 AND m.todo_id < 100 ORDER BY m.todo_id DESC",
+                String.class);
+
+        assertTrue(plan.contains("idx_managers_user_todo"), plan);
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.expert.domain.todo.service;
 
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.cachesync.CacheName;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -28,6 +30,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -35,6 +38,8 @@ public class TodoServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private CacheChangeLog cacheChangeLog;
     @InjectMocks
     private TodoService todoService;
 
@@ -48,6 +53,7 @@ public class TodoServiceTest {
         TodoSaveRequest request = new TodoSaveRequest("제목1", "내용1");
         String weather = "Sunny";
         Todo todo = new Todo("제목1", "내용1", weather, user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
 
         given(weatherClient.getTodayWeather()).willReturn(weather);
         given(todoRepository.save(any(Todo.class))).willReturn(todo);
@@ -61,6 +67,7 @@ public class TodoServiceTest {
         assertEquals(todo.getContents(), response.getContents());
         assertEquals(todo.getWeather(), response.getWeather());
         assertEquals(user.getId(), response.getUser().getId());
+        verify(cacheChangeLog).record(CacheName.TODO, 1L);
     }
 
     @Test
@@ -0,0 +1,224 @@
+package org.example.expert.domain.user.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserProfileCache;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserAdminControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("PATCH /admin/users/{userId} : 유저 조회, 권한 update, 캐시 변경 로그 insert")
+    void changeUserRole() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User user = saveUser(UserRole.USER);
+
+        assertQueryCount(3, patch("/admin/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("PATCH /admin/users/{userId} : 권한이 바뀌면 캐시된 유저가 무효화되어 새 권한으로 다시 읽힌다")
+    void changeUserRoleInvalidatesCache() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User user = saveUser(UserRole.USER);
+        userProfileCache.find(user.getId());
+
+        mockMvc.perform(patch("/admin/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+
+        assertTrue(userProfileCache.peek(user.getId()).isEmpty());
+        assertEquals(UserRole.ADMIN, userProfileCache.find(user.getId()).orElseThrow().getUserRole());
+    }
+
+    @Test
+    @DisplayName("PATCH /admin/users/{userId} : 캐시에 같은 권한이 있어도 DB 의 행을 읽어 판단한다")
+    void changeUserRoleToSameRole() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User user = saveUser(UserRole.USER);
+        userProfileCache.find(user.getId());
+
+        assertQueryCount(1, patch("/admin/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"USER\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(0, userRepository.findById(user.getId()).orElseThrow().getRoleVersion());
+    }
+
+    @Test
+    @DisplayName("GET /admin/users : 권한, email 접두사로 거른 keyset 페이지를 projection 조회 1번으로")
+    void getUsers() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        String prefix = "list" + System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            userRepository.save(new User(prefix + "-" + i + "@example.com", "password", UserRole.USER));
+        }
+        userRepository.save(new User(prefix + "-admin@example.com", "password", UserRole.ADMIN));
+
+        MvcResult first = assertQueryCount(1, get("/admin/users")
+                .param("role", "USER")
+                .param("email", prefix)
+                .param("size", "2")
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].email").value(prefix + "-2@example.com"))
+                .andExpect(jsonPath("$.items[0].password").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isNumber())
+                .andReturn();
+        long nextCursor = ((Number) JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor")).longValue();
+
+        assertQueryCount(1, get("/admin/users")
+                .param("role", "USER")
+                .param("email", prefix)
+                .param("size", "2")
+                .param("cursor", String.valueOf(nextCursor))
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].email").value(prefix + "-0@example.com"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /admin/users : email 접두사의 '_', '%' 는 와일드카드가 아닌 문자로 비교한다")
+    void getUsersEscapesLikeWildcards() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        String prefix = "esc" + System.nanoTime();
+        userRepository.save(new User(prefix + "_a@example.com", "password", UserRole.USER));
+        userRepository.save(new User(prefix + "xa@example.com", "password", UserRole.USER));
+
+        mockMvc.perform(get("/admin/users")
+                        .param("email", prefix + "_")
+                        .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].email").value(prefix + "_a@example.com"));
+    }
+
+    @Test
+    @DisplayName("권한 필터는 users(user_role, id) 인덱스를 사용한다")
+    void getUsersByRoleUsesIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT u.id, u.email FROM users u WHERE u.user_role = 'USER' AND u.id < 100 ORDER BY u.id DESC",
+                String.class);
+
+        assertTrue(plan.contains("idx_users_role_id"), plan);
+    }
+
+    @Test
+    @DisplayName("POST /admin/users/bulk : 청크마다 이메일 IN 조회, batch insert")
+    void provisionUsers() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User existing = saveUser(UserRole.USER);
+        String prefix = "bulk" + System.nanoTime();
+        String body = "[" +
+                "{\"email\":\"" + prefix + "-1@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"" + existing.getEmail() + "\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"" + prefix + "-2@example.com\",\"password\":\"Password1\",\"userRole\":\"ADMIN\"}" +
+                "]";
+
+        assertQueryCount(2, post("/admin/users/bulk")
+                .header("Authorization", tokenOf(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.duplicate").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.results[2].userId").isNumber());
+
+        User created = userRepository.findByEmail(prefix + "-2@example.com").orElseThrow();
+        assertEquals(UserRole.ADMIN, created.getUserRole());
+        assertTrue(passwordEncoder.matches("Password1", created.getPassword()));
+        assertNotNull(created.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("PATCH /admin/users/roles : id 목록의 권한을 잠금 조회, UPDATE, 캐시 변경 로그 batch insert 한 번씩으로 바꾸고 기존 토큰과 캐시를 무효화")
+    void changeUserRoles() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User user = saveUser(UserRole.USER);
+        User alreadyAdmin = saveUser(UserRole.ADMIN);
+        userProfileCache.find(user.getId());
+        String oldToken = tokenOf(user);
+
+        assertQueryCount(3, patch("/admin/users/roles")
+                .header("Authorization", tokenOf(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\",\"userIds\":[" + user.getId() + "," + alreadyAdmin.getId() + ",-1]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(1));
+
+        User changed = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(UserRole.ADMIN, changed.getUserRole());
+        assertEquals(1, changed.getRoleVersion());
+        assertEquals(0, userRepository.findById(alreadyAdmin.getId()).orElseThrow().getRoleVersion());
+        assertTrue(userProfileCache.peek(user.getId()).isEmpty());
+        mockMvc.perform(get("/users/{userId}", user.getId())
+                        .header("Authorization", oldToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("PATCH /admin/users/roles : email 도메인으로 고른 유저의 권한을 바꾼다")
+    void changeUserRolesByEmailDomain() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        String domain = "team" + System.nanoTime() + ".example";
+        User first = userRepository.save(new User("a@" + domain, "password", UserRole.USER));
+        User second = userRepository.save(new User("b@" + domain, "password", UserRole.USER));
+        User other = userRepository.save(new User("c@other-" + domain, "password", UserRole.USER));
+
+        assertQueryCount(3, patch("/admin/users/roles")
+                .header("Authorization", tokenOf(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\",\"emailDomain\":\"" + domain + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(2));
+
+        assertEquals(UserRole.ADMIN, userRepository.findById(first.getId()).orElseThrow().getUserRole());
+        assertEquals(UserRole.ADMIN, userRepository.findById(second.getId()).orElseThrow().getUserRole());
+        assertEquals(UserRole.USER, userRepository.findById(other.getId()).orElseThrow().getUserRole());
+    }
+
+    @Test
+    @DisplayName("PATCH /admin/users/roles : userIds 와 emailDomain 을 함께 보내면 400")
+    void changeUserRolesRejectsBothTargets() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+
+        assertQueryCount(0, patch("/admin/users/roles")
+                .header("Authorization", tokenOf(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\",\"userIds\":[1],\"emailDomain\":\"example.com\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.expert.domain.user.controller;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.EmailPrefixIndexRefresher;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private EmailPrefixIndexRefresher emailPrefixIndexRefresher;
+
+    @Test
+    @DisplayName("GET /users/{userId} : 유저 단건 조회")
+    void getUser() throws Exception {
+        User user = saveUser(UserRole.USER);
+
+        assertQueryCount(1, get("/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /users/{userId} : 두 번째 조회부터는 UserProfileCache 에서 조회 없이 응답")
+    void getCachedUser() throws Exception {
+        User user = saveUser(UserRole.USER);
+        mockMvc.perform(get("/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(user)));
+
+        assertQueryCount(0, get("/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(user.getEmail()));
+    }
+
+    @Test
+    @DisplayName("PUT /users : 비밀번호를 바꾸면 커밋 이후 캐시된 유저가 무효화된다")
+    void changePasswordInvalidatesCache() throws Exception {
+        User user = saveUser(UserRole.USER);
+        mockMvc.perform(get("/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(user)));
+
+        mockMvc.perform(put("/users")
+                .header("Authorization", tokenOf(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"oldPassword\":\"Password1\",\"newPassword\":\"NewPassword1\"}"))
+                .andExpect(status().isOk());
+
+        assertQueryCount(1, get("/users/{userId}", user.getId())
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /users?ids= : 유저 수와 무관하게 IN 조회 1번")
+    void getUsers() throws Exception {
+        User user = saveUser(UserRole.USER);
+        User other = saveUser(UserRole.USER);
+
+        assertQueryCount(1, get("/users")
+                .param("ids", other.getId() + "," + user.getId() + ",999999")
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(other.getId()))
+                .andExpect(jsonPath("$[1].id").value(user.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /users?ids= : IN 절은 100개 단위로 나눠 조회")
+    void getUsersChunked() throws Exception {
+        User user = saveUser(UserRole.USER);
+        String ids = LongStream.rangeClosed(1, 150).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        assertQueryCount(2, get("/users")
+                .param("ids", ids)
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("PUT /users : 유저 조회, 비밀번호 update")
+    void changePassword() throws Exception {
+        User user = saveUser(UserRole.USER);
+
+        assertQueryCount(2, put("/users")
+                .header("Authorization", tokenOf(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"oldPassword\":\"Password1\",\"newPassword\":\"NewPassword1\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /users/search : 가입한 유저를 이메일 접두사로 조회 없이 찾는다")
+    void searchUsers() throws Exception {
+        User user = saveUser(UserRole.USER);
+        String prefix = "search" + System.nanoTime();
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + prefix + "-b@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + prefix + "-a@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}"))
+                .andExpect(status().isOk());
+
+        assertQueryCount(0, get("/users/search")
+                .param("prefix", prefix.toUpperCase())
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].email").value(prefix + "-a@example.com"))
+                .andExpect(jsonPath("$[1].email").value(prefix + "-b@example.com"));
+    }
+
+    @Test
+    @DisplayName("GET /users/search : 다른 노드에서 추가된 유저는 주기적인 갱신으로 찾을 수 있다")
+    void searchUsersAfterRefresh() throws Exception {
+        User user = saveUser(UserRole.USER);
+        emailPrefixIndexRefresher.refresh();
+
+        assertQueryCount(0, get("/users/search")
+                .param("prefix", user.getEmail())
+                .param("limit", "1")
+                .header("Authorization", tokenOf(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(user.getId()));
+    }
+}
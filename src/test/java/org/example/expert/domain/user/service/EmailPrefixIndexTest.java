@@ -0,0 +1,81 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmailPrefixIndexTest {
+
+    @Test
+    @DisplayName("접두사로 시작하는 이메일을 이메일 순으로 limit 개까지 돌려준다")
+    void search() {
+        // given
+        EmailPrefixIndex index = new EmailPrefixIndex(1024);
+        index.replaceAll(List.of(
+                new UserResponse(1L, "bob@example.com"),
+                new UserResponse(2L, "alice@example.com"),
+                new UserResponse(3L, "al@example.com"),
+                new UserResponse(4L, "carol@example.com")));
+
+        // when & then
+        assertEquals(List.of(3L, 2L), ids(index.search("al", 10)));
+        assertEquals(List.of(3L), ids(index.search("al", 1)));
+        assertEquals(List.of(), ids(index.search("dave", 10)));
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고, 대소문자만 다른 이메일은 각각 보관한다")
+    void caseInsensitive() {
+        // given
+        EmailPrefixIndex index = new EmailPrefixIndex(1024);
+        index.add(1L, "Alice@example.com");
+        index.add(2L, "alice@example.com");
+
+        // when & then
+        assertEquals(2, index.search("ALICE", 10).size());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("배열과 아직 합쳐지지 않은 유저를 함께 정렬해서 읽고, threshold 에서 합친다")
+    void searchesPendingAndMerges() {
+        // given
+        EmailPrefixIndex index = new EmailPrefixIndex(3);
+        index.replaceAll(List.of(new UserResponse(1L, "a1@example.com"), new UserResponse(3L, "a3@example.com")));
+
+        // when
+        index.add(2L, "a2@example.com");
+        index.add(4L, "a4@example.com");
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.search("a", 10)));
+
+        index.add(5L, "a5@example.com");
+        index.add(1L, "a1@example.com");
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(index.search("a", 10)));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    @DisplayName("전체 적재 중에 추가된 유저도 적재 후에 남는다")
+    void keepsUsersAddedWhileLoading() {
+        // given
+        EmailPrefixIndex index = new EmailPrefixIndex(1024);
+        index.add(2L, "b@example.com");
+
+        // when
+        index.replaceAll(List.of(new UserResponse(1L, "a@example.com"), new UserResponse(2L, "b@example.com")));
+
+        // then
+        assertEquals(List.of(1L, 2L), ids(index.search("", 10)));
+        assertEquals(2, index.size());
+    }
+
+    private static List<Long> ids(List<UserResponse> users) {
+        return users.stream().map(UserResponse::getId).toList();
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.cachesync.CacheChangeLog;
+import org.example.expert.config.RoleVersionRegistry;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -15,13 +17,24 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 public class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private RoleVersionRegistry roleVersionRegistry;
+    @Mock
+    private UserProfileCache userProfileCache;
+    @Mock
+    private CacheChangeLog cacheChangeLog;
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -40,6 +53,8 @@ public class UserAdminServiceTest {
 
         // then
         assertEquals(UserRole.ADMIN, user.getUserRole());
+        assertEquals(1, user.getRoleVersion());
+        verify(roleVersionRegistry).updateAfterCommit(3L, 1);
     }
 
     @Test
@@ -59,4 +74,36 @@ public class UserAdminServiceTest {
         // then
         assertEquals("User not found", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("DB 의 권한과 같으면 버전을 올리지 않고 변경 로그도 남기지 않는다")
+    public void changeRole_sameRole() {
+        // given
+        User user = new User("test@example.com","1234", UserRole.ADMIN);
+        ReflectionTestUtils.setField(user, "id", 3L);
+        UserRoleChangeRequest request = new UserRoleChangeRequest("ADMIN");
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+        // when
+        userAdminService.changeUserRole(user.getId(), request);
+
+        // then
+        assertEquals(UserRole.ADMIN, user.getUserRole());
+        assertEquals(0, user.getRoleVersion());
+        verify(cacheChangeLog, never()).record(any(), anyLong());
+        verify(roleVersionRegistry).updateAfterCommit(3L, 0);
+    }
+
+    @Test
+    @DisplayName("유저 목록 조회 시 email 접두사가 너무 짧으면 조회하지 않는다")
+    public void getUsers_shortEmailPrefix() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
+            userAdminService.getUsers(null, "ab", null, 20);
+        });
+
+        // then
+        assertEquals("email 은 3자 이상 입력해야 합니다.", exception.getMessage());
+        verifyNoInteractions(userRepository);
+    }
 }
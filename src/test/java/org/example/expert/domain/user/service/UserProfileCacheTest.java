@@ -0,0 +1,87 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.UserProfile;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserProfileCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Optional<UserProfile> load(long userId) {
+        loads.incrementAndGet();
+        return userId > 0 ? Optional.of(new UserProfile(userId, "user" + userId + "@example.com", UserRole.USER)) : Optional.empty();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 loader 를 호출하지 않는다")
+    void cachesLoadedProfile() {
+        // given
+        UserProfileCache cache = new UserProfileCache(10, this::load);
+
+        // when
+        cache.find(1L);
+        Optional<UserProfile> second = cache.find(1L);
+
+        // then
+        assertEquals("user1@example.com", second.orElseThrow().getEmail());
+        assertEquals(1, loads.get());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저는 캐시하지 않는다")
+    void doesNotCacheMissingUser() {
+        // given
+        UserProfileCache cache = new UserProfileCache(10, this::load);
+
+        // when
+        cache.find(-1L);
+        cache.find(-1L);
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("maxEntries 를 넘으면 가장 오래 사용하지 않은 항목부터 버린다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        UserProfileCache cache = new UserProfileCache(2, this::load);
+        cache.find(1L);
+        cache.find(2L);
+        cache.find(1L);
+
+        // when
+        cache.find(3L);
+
+        // then
+        assertTrue(cache.peek(1L).isPresent());
+        assertTrue(cache.peek(2L).isEmpty());
+        assertTrue(cache.peek(3L).isPresent());
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽어 온 값을 캐시에 넣지 않는다")
+    void skipsPutWhenInvalidatedDuringLoad() {
+        // given
+        UserProfileCache[] holder = new UserProfileCache[1];
+        holder[0] = new UserProfileCache(10, userId -> {
+            holder[0].invalidate(userId);
+            return load(userId);
+        });
+
+        // when
+        holder[0].find(1L);
+
+        // then
+        assertTrue(holder[0].peek(1L).isEmpty());
+    }
+}
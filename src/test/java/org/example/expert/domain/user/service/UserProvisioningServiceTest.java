@@ -0,0 +1,186 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.dto.response.UserProvisionResponse;
+import org.example.expert.domain.user.dto.response.UserProvisionResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserProvisioningServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserProvisioningService userProvisioningService;
+
+    @BeforeEach
+    void setUp() {
+        userProvisioningService = new UserProvisioningService(userRepository, userJdbcRepository, passwordEncoder,
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), new EmailPrefixIndex(1024), transactionManager, 2, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userProvisioningService.shutdown();
+    }
+
+    @Test
+    @DisplayName("청크마다 이메일 IN 조회와 batch insert 를 한 번씩 하고, 레코드마다 결과를 요청 순서대로 돌려준다")
+    void provisionsInChunks() throws IOException {
+        // given
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        given(userRepository.findEmailsIn(anyCollection())).willReturn(List.of("taken@example.com"));
+        AtomicLong ids = new AtomicLong();
+        given(userJdbcRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> assertEquals("hashed-Password1", user.getPassword()));
+            return users.stream().map(user -> ids.incrementAndGet()).toList();
+        });
+        String body = "[" +
+                "{\"email\":\"a@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"taken@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"not-an-email\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"a@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"b@example.com\",\"password\":\"Password1\",\"userRole\":\"ADMIN\"}" +
+                "]";
+
+        // when
+        UserProvisionResponse response = userProvisioningService.provision(stream(body));
+
+        // then
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getDuplicate());
+        assertEquals(1, response.getInvalid());
+        assertEquals(List.of(
+                UserProvisionResult.Status.CREATED,
+                UserProvisionResult.Status.DUPLICATE,
+                UserProvisionResult.Status.INVALID,
+                UserProvisionResult.Status.DUPLICATE,
+                UserProvisionResult.Status.CREATED
+        ), response.getResults().stream().map(UserProvisionResult::getStatus).toList());
+        assertEquals(4, response.getResults().get(4).getIndex());
+        // 5개 레코드, 청크 크기 2 -> 3 청크. 세 번째 청크만 남은 후보가 없어 insert 하지 않는다.
+        verify(userRepository, times(2)).findEmailsIn(anyCollection());
+        verify(userJdbcRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("확인 이후 같은 이메일이 먼저 등록되면 그 이메일만 빼고 다시 insert 한다")
+    void retriesWithoutConcurrentlyRegisteredEmail() throws IOException {
+        // given
+        given(passwordEncoder.encode(anyString())).willReturn("hashed");
+        given(userRepository.findEmailsIn(anyCollection()))
+                .willReturn(List.of())
+                .willReturn(List.of("a@example.com"));
+        given(userJdbcRepository.insertAll(anyList()))
+                .willThrow(new DuplicateKeyException("uk_users_email"))
+                .willAnswer(invocation -> {
+                    List<User> users = invocation.getArgument(0);
+                    assertEquals(List.of("b@example.com"), users.stream().map(User::getEmail).toList());
+                    return List.of(7L);
+                });
+        String body = "[" +
+                "{\"email\":\"a@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"b@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}" +
+                "]";
+
+        // when
+        UserProvisionResponse response = userProvisioningService.provision(stream(body));
+
+        // then
+        assertEquals(UserProvisionResult.Status.DUPLICATE, response.getResults().get(0).getStatus());
+        assertEquals(7L, response.getResults().get(1).getUserId());
+    }
+
+    @Test
+    @DisplayName("이메일 중복은 대소문자를 구분하지 않고 비교한다")
+    void comparesEmailsIgnoringCase() throws IOException {
+        // given
+        given(passwordEncoder.encode(anyString())).willReturn("hashed");
+        // 대소문자를 구분하지 않는 collation 에서는 저장된 표기로 돌아온다.
+        given(userRepository.findEmailsIn(anyCollection())).willReturn(List.of("taken@example.com"));
+        given(userJdbcRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            assertEquals(List.of("a@example.com"), users.stream().map(User::getEmail).toList());
+            return List.of(1L);
+        });
+        String body = "[" +
+                "{\"email\":\"a@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"A@Example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"Taken@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}" +
+                "]";
+
+        // when
+        UserProvisionResponse response = userProvisioningService.provision(stream(body));
+
+        // then
+        assertEquals(List.of(
+                UserProvisionResult.Status.CREATED,
+                UserProvisionResult.Status.DUPLICATE,
+                UserProvisionResult.Status.DUPLICATE
+        ), response.getResults().stream().map(UserProvisionResult::getStatus).toList());
+    }
+
+    @Test
+    @DisplayName("다시 확인해도 찾지 못하는 중복은 한 건씩 저장해 그 레코드만 중복으로 처리한다")
+    void insertsEachWhenDuplicateCannotBeMatched() throws IOException {
+        // given
+        given(passwordEncoder.encode(anyString())).willReturn("hashed");
+        given(userRepository.findEmailsIn(anyCollection())).willReturn(List.of());
+        given(userJdbcRepository.insertAll(anyList()))
+                .willThrow(new DuplicateKeyException("uk_users_email"))
+                .willReturn(List.of(7L))
+                .willThrow(new DuplicateKeyException("uk_users_email"));
+        String body = "[" +
+                "{\"email\":\"a@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}," +
+                "{\"email\":\"b@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}" +
+                "]";
+
+        // when
+        UserProvisionResponse response = userProvisioningService.provision(stream(body));
+
+        // then
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getDuplicate());
+        assertEquals(7L, response.getResults().get(0).getUserId());
+        assertEquals(UserProvisionResult.Status.DUPLICATE, response.getResults().get(1).getStatus());
+        verify(userJdbcRepository, times(3)).insertAll(anyList());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.user.service;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserProfile;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -15,7 +16,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 
@@ -25,6 +28,8 @@ public class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserProfileCache userProfileCache;
     @InjectMocks
     private UserService userService;
 
@@ -36,7 +41,7 @@ public class UserServiceTest {
         AuthUser authUser = new AuthUser(1L, "test1@example.com", UserRole.USER);
         User user = User.fromAuthUser(authUser);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userProfileCache.find(userId)).willReturn(Optional.of(new UserProfile(user.getId(), user.getEmail(), user.getUserRole())));
 
         // when
         UserResponse response = userService.getUser(userId);
@@ -52,7 +57,7 @@ public class UserServiceTest {
     public void getUser_fail() {
         // given
         long userId = 1L;
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userProfileCache.find(userId)).willReturn(Optional.empty());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -172,4 +177,33 @@ public class UserServiceTest {
         // then
         assertEquals("User not found", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("여러 유저 조회는 중복을 제거하고 요청 순서대로, 없는 id 는 빼고 돌려준다")
+    public void getUsers_keepsRequestOrder() {
+        // given
+        given(userRepository.findResponsesByIdIn(List.of(3L, 1L, 2L))).willReturn(List.of(
+                new UserResponse(1L, "a@example.com"),
+                new UserResponse(3L, "c@example.com")
+        ));
+
+        // when
+        List<UserResponse> users = userService.getUsers(List.of(3L, 1L, 3L, 2L));
+
+        // then
+        assertEquals(List.of(3L, 1L), users.stream().map(UserResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("여러 유저 조회는 입력 개수를 제한한다")
+    public void getUsers_tooManyIds() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> userService.getUsers(ids));
+
+        // then
+        assertEquals("ids 는 1개 이상 500개 이하여야 합니다.", exception.getMessage());
+    }
 }
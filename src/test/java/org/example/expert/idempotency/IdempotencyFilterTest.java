@@ -0,0 +1,102 @@
+package org.example.expert.idempotency;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class IdempotencyFilterTest extends QueryCountTestSupport {
+
+    private static final String BODY = "{\"title\":\"title\",\"contents\":\"contents\"}";
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 재시도하면 쿼리 없이 첫 응답을 그대로 돌려준다")
+    void replays() throws Exception {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        User user = saveUser(UserRole.USER);
+        String token = tokenOf(user);
+        String key = UUID.randomUUID().toString();
+        long before = todoRepository.count();
+
+        MvcResult first = mockMvc.perform(post("/todos")
+                        .header("Authorization", token)
+                        .header(IdempotencyFilter.KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // when
+        MvcResult retry = assertQueryCount(0, post("/todos")
+                .header("Authorization", token)
+                .header(IdempotencyFilter.KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        // then
+        assertEquals(first.getResponse().getContentAsString(), retry.getResponse().getContentAsString());
+        assertEquals(before + 1, todoRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 키로 내용이 다른 요청을 보내면 422")
+    void rejectsDifferentRequest() throws Exception {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        User user = saveUser(UserRole.USER);
+        String token = tokenOf(user);
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/todos")
+                        .header("Authorization", token)
+                        .header(IdempotencyFilter.KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/todos")
+                        .header("Authorization", token)
+                        .header(IdempotencyFilter.KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"other\",\"contents\":\"contents\"}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("키는 사용자별로 나뉘어 다른 사용자의 응답을 재사용하지 않는다")
+    void scopedByUser() throws Exception {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        String key = UUID.randomUUID().toString();
+        long before = todoRepository.count();
+
+        // when
+        for (User user : new User[]{saveUser(UserRole.USER), saveUser(UserRole.USER)}) {
+            mockMvc.perform(post("/todos")
+                            .header("Authorization", tokenOf(user))
+                            .header(IdempotencyFilter.KEY_HEADER, key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(BODY))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        }
+
+        // then
+        assertEquals(before + 2, todoRepository.count());
+    }
+}
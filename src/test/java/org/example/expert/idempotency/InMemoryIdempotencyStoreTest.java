@@ -0,0 +1,96 @@
+package org.example.expert.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final StoredResponse RESPONSE = new StoredResponse(200, "application/json", "{\"id\":1}".getBytes());
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofSeconds(10), 2, clock::get);
+
+    @Test
+    @DisplayName("처음 선점하면 null, 같은 키를 다시 선점하면 첫 요청의 fingerprint")
+    void claim() {
+        assertNull(store.claim("1:a", "fp"));
+        assertEquals("fp", store.claim("1:a", "other"));
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청을 기다리던 요청은 첫 요청이 끝나면 같은 응답을 받는다")
+    void waitsForFirstExecution() throws Exception {
+        // given
+        store.claim("1:a", "fp");
+        CompletableFuture<StoredResponse> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.await("1:a", TimeUnit.SECONDS.toNanos(5));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        store.complete("1:a", RESPONSE);
+
+        // then
+        assertSame(RESPONSE, waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("첫 요청이 실패해 키를 반납하면 기다리던 요청은 null 을 받고, 키를 다시 선점할 수 있다")
+    void release() throws Exception {
+        // given
+        store.claim("1:a", "fp");
+
+        // when
+        store.release("1:a");
+
+        // then
+        assertNull(store.await("1:a", TimeUnit.SECONDS.toNanos(1)));
+        assertNull(store.claim("1:a", "fp"));
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 요청은 timeout 까지만 기다린다")
+    void awaitTimeout() throws Exception {
+        store.claim("1:a", "fp");
+        assertNull(store.await("1:a", TimeUnit.MILLISECONDS.toNanos(20)));
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 키는 다시 선점할 수 있다")
+    void expires() {
+        // given
+        store.claim("1:a", "fp");
+        store.complete("1:a", RESPONSE);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertNull(store.claim("1:a", "fp"));
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래된 키부터 버린다")
+    void bounded() {
+        // given
+        store.claim("1:a", "fp");
+        store.claim("1:b", "fp");
+
+        // when
+        store.claim("1:c", "fp");
+
+        // then
+        assertEquals(2, store.size());
+        assertNull(store.claim("1:a", "fp"));
+    }
+}
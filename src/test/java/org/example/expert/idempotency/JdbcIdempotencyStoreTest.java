@@ -0,0 +1,67 @@
+package org.example.expert.idempotency;
+
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {"idempotency.store=jdbc", "idempotency.jdbc.poll-ms=10"})
+class JdbcIdempotencyStoreTest extends QueryCountTestSupport {
+
+    @Autowired
+    private IdempotencyStore store;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("primary key 로 키를 선점하고, 기다리던 요청은 저장된 응답을 받는다")
+    void claimAndAwait() throws Exception {
+        // given
+        assertInstanceOf(JdbcIdempotencyStore.class, store);
+        String key = "1:" + UUID.randomUUID();
+        assertNull(store.claim(key, "fp"));
+        assertEquals("fp", store.claim(key, "other"));
+        CompletableFuture<StoredResponse> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.await(key, TimeUnit.SECONDS.toNanos(5));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        store.complete(key, new StoredResponse(200, "application/json", "{\"id\":1}".getBytes()));
+
+        // then
+        StoredResponse response = waiter.get(5, TimeUnit.SECONDS);
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"id\":1}", new String(response.getBody()));
+    }
+
+    @Test
+    @DisplayName("반납하거나 만료된 키는 다시 선점할 수 있다")
+    void releaseAndExpire() throws Exception {
+        // given
+        String released = "1:" + UUID.randomUUID();
+        String expired = "1:" + UUID.randomUUID();
+        store.claim(released, "fp");
+        store.claim(expired, "fp");
+
+        // when
+        store.release(released);
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = DATEADD('SECOND', -1, CURRENT_TIMESTAMP) WHERE idempotency_key = ?", expired);
+
+        // then
+        assertNull(store.await(released, 0));
+        assertNull(store.claim(released, "fp"));
+        assertNull(store.claim(expired, "fp"));
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("버킷 중간값은 해당 버킷 범위 안에 있음")
+    void bucketIndex_roundTrip() {
+        for (long micros = 0; micros < 5_000_000; micros += 997) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            long midpoint = LatencyHistogram.midpointOf(index);
+            assertEquals(index, LatencyHistogram.bucketIndex(midpoint));
+            assertTrue(Math.abs(midpoint - micros) <= Math.max(1, micros / 16), "micros=" + micros);
+        }
+    }
+
+    @Test
+    @DisplayName("p50, p99, p999 를 약 6% 오차 이내로 계산")
+    void percentile() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i, TimeUnit.MICROSECONDS);
+        }
+
+        // when & then
+        assertEquals(10_000, histogram.count());
+        assertEquals(5_000, histogram.percentileMicros(0.5), 5_000 * 0.07);
+        assertEquals(9_900, histogram.percentileMicros(0.99), 9_900 * 0.07);
+        assertEquals(9_990, histogram.percentileMicros(0.999), 9_990 * 0.07);
+        assertEquals(10_000, histogram.maxMicros());
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 0")
+    void percentile_empty() {
+        assertEquals(0, new LatencyHistogram().percentileMicros(0.99));
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.metrics;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.EmailPrefixIndex;
+import org.example.expert.domain.user.service.UserProfileCache;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MetricsControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+    @Autowired
+    private EmailPrefixIndex emailPrefixIndex;
+
+    @Test
+    @DisplayName("GET /admin/metrics : 메모리 집계만 조회")
+    void getMetrics() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+
+        assertQueryCount(0, get("/admin/metrics")
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /admin/metrics/prometheus : 메모리 집계만 조회")
+    void getPrometheus() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+
+        assertQueryCount(0, get("/admin/metrics/prometheus")
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /admin/metrics/slow-queries : 메모리에 보관한 slow query 만 조회")
+    void getSlowQueries() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+
+        assertQueryCount(0, get("/admin/metrics/slow-queries")
+                .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("service 패키지의 캐시, 인덱스 컴포넌트는 서비스 메서드로 집계하지 않는다")
+    void skipsNonServiceComponents() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        userProfileCache.find(admin.getId());
+        emailPrefixIndex.search("metrics", 10);
+
+        mockMvc.perform(get("/admin/metrics/prometheus")
+                        .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("UserProfileCache."))))
+                .andExpect(content().string(not(containsString("EmailPrefixIndex."))));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.metrics;
+
+import org.example.expert.metrics.dto.MetricsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+    @Test
+    @DisplayName("라우트별 요청 수와 에러 수를 집계")
+    void snapshot() {
+        // given
+        metricsRegistry.route("GET /todos").record(TimeUnit.MILLISECONDS.toNanos(3), 200);
+        metricsRegistry.route("GET /todos").record(TimeUnit.MILLISECONDS.toNanos(5), 400);
+        metricsRegistry.route("POST /todos").record(TimeUnit.MILLISECONDS.toNanos(300), 500);
+
+        // when
+        MetricsResponse response = metricsRegistry.snapshot();
+
+        // then
+        assertEquals(2, response.getRoutes().size());
+        assertEquals("GET /todos", response.getRoutes().get(0).getName());
+        assertEquals(2, response.getRoutes().get(0).getCount());
+        assertEquals(1, response.getRoutes().get(0).getClientErrors());
+        assertEquals(1, response.getRoutes().get(1).getServerErrors());
+    }
+
+    @Test
+    @DisplayName("Prometheus text format 으로 출력")
+    void prometheus() {
+        // given
+        metricsRegistry.route("GET /todos/{todoId}").record(TimeUnit.MILLISECONDS.toNanos(2), 200);
+        metricsRegistry.counter("admin_audit_dropped_total", "", "dropped", () -> 3L);
+        metricsRegistry.gauge("bulkhead_in_use", MetricsRegistry.labels("group", "auth"), "in use", () -> 1);
+
+        // when
+        String text = metricsRegistry.prometheus();
+
+        // then
+        assertTrue(text.contains("# TYPE http_server_requests_total counter"));
+        assertTrue(text.contains("http_server_requests_total{route=\"GET /todos/{todoId}\"} 1"));
+        assertTrue(text.contains("http_server_requests_duration_seconds{route=\"GET /todos/{todoId}\",quantile=\"0.99\"}"));
+        assertTrue(text.contains("admin_audit_dropped_total 3"));
+        assertTrue(text.contains("bulkhead_in_use{group=\"auth\"} 1"));
+    }
+}
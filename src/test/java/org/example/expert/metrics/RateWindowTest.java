@@ -0,0 +1,79 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateWindowTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("진행 중인 현재 초는 빼고 직전 60초의 평균을 계산")
+    void perSecond() {
+        // given
+        RateWindow window = new RateWindow();
+        for (int i = 0; i < 120; i++) {
+            window.increment(NOW - 1_000);
+        }
+        window.increment(NOW);
+
+        // when & then
+        assertEquals(2.0, window.perSecond(NOW));
+    }
+
+    @Test
+    @DisplayName("60초가 지난 슬롯은 다시 쓰일 때 새 초의 횟수로 바뀜")
+    void reusesExpiredSlot() {
+        // given
+        RateWindow window = new RateWindow();
+        for (int i = 0; i < 60; i++) {
+            window.increment(NOW);
+        }
+
+        // when
+        window.increment(NOW + 60_000);
+
+        // then
+        assertEquals(1 / 60.0, window.perSecond(NOW + 61_000));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 오래된 슬롯을 동시에 다시 써도 증가가 사라지지 않음")
+    void concurrentIncrementsOnExpiredSlot() throws InterruptedException {
+        // given
+        RateWindow window = new RateWindow();
+        window.increment(NOW);
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    window.increment(NOW + 60_000);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(threads * perThread / 60.0, window.perSecond(NOW + 61_000), 1e-9);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.metrics.query;
+
+import org.example.expert.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryTrackerTest {
+
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(10, 10);
+
+    @AfterEach
+    void tearDown() {
+        QueryContext.end();
+    }
+
+    @Test
+    @DisplayName("요청별로 statement 수, DB 시간, 가장 느린 SQL 과 repository 를 기록")
+    void recordsPerRequest() {
+        // given
+        QueryTracker queryTracker = tracker(10, QueryBudgetMode.LOG);
+        RequestQueryStats stats = QueryContext.begin("GET /todos/{todoId}");
+        String previous = QueryContext.enterRepository("TodoRepository.findByIdWithUser");
+
+        // when
+        queryTracker.afterStatement("select fast", new String[2], 0, TimeUnit.MILLISECONDS.toNanos(1));
+        queryTracker.afterStatement("select slow", new String[]{null, "Long"}, 1, TimeUnit.MILLISECONDS.toNanos(12));
+        QueryContext.exitRepository(previous);
+
+        // then
+        assertEquals(2, stats.getStatements());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(13), stats.getDbNanos());
+        assertEquals("select slow", stats.getSlowestSql());
+        assertEquals("TodoRepository.findByIdWithUser", stats.getSlowestRepository());
+        assertEquals("[Long]", slowQueryLog.snapshot().get(0).getParameterTypes());
+        assertEquals("GET /todos/{todoId}", slowQueryLog.snapshot().get(0).getRoute());
+        assertNull(QueryContext.repository());
+    }
+
+    @Test
+    @DisplayName("LOG 모드에서는 예산을 넘겨도 statement 를 막지 않고, 요청이 끝날 때 집계한다")
+    void logMode() {
+        // given
+        QueryTracker queryTracker = tracker(1, QueryBudgetMode.LOG);
+        RequestQueryStats stats = QueryContext.begin("GET /todos");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            queryTracker.beforeStatement();
+            queryTracker.afterStatement("select 1", new String[1], 0, 1_000);
+        }
+        queryTracker.complete(stats);
+
+        // then
+        assertEquals(3, stats.getStatements());
+        assertEquals(1, queryTracker.overBudgetCount());
+    }
+
+    @Test
+    @DisplayName("REJECT 모드에서는 예산을 다 쓴 요청의 다음 statement 를 막는다")
+    void rejectMode() {
+        // given
+        QueryTracker queryTracker = tracker(2, QueryBudgetMode.REJECT);
+        QueryContext.begin("GET /todos");
+        for (int i = 0; i < 2; i++) {
+            queryTracker.beforeStatement();
+            queryTracker.afterStatement("select 1", new String[1], 0, 1_000);
+        }
+
+        // when
+        QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+                queryTracker::beforeStatement);
+
+        // then
+        assertEquals("요청당 쿼리 한도를 초과했습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 statement 는 예산 검사 없이 BACKGROUND 로 기록")
+    void background() {
+        // given
+        QueryTracker queryTracker = tracker(0, QueryBudgetMode.REJECT);
+
+        // when
+        queryTracker.beforeStatement();
+        queryTracker.afterStatement("insert into admin_audit", new String[1], 0, TimeUnit.MILLISECONDS.toNanos(20));
+
+        // then
+        assertEquals(QueryTracker.BACKGROUND_ROUTE, slowQueryLog.snapshot().get(0).getRoute());
+    }
+
+    private QueryTracker tracker(int maxStatements, QueryBudgetMode mode) {
+        return new QueryTracker(slowQueryLog, new MetricsRegistry(), maxStatements, 1_000, mode);
+    }
+}
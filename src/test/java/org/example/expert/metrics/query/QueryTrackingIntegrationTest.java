@@ -0,0 +1,37 @@
+package org.example.expert.metrics.query;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "query.slow-log.threshold-ms=0")
+class QueryTrackingIntegrationTest extends QueryCountTestSupport {
+
+    @Test
+    @DisplayName("slow query 로그에 route 와 repository 메서드, 바인드 파라미터 타입이 남는다")
+    void slowQueries() throws Exception {
+        // given
+        User admin = saveUser(UserRole.ADMIN);
+        Todo todo = saveTodo(admin);
+        mockMvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/admin/metrics/slow-queries")
+                        .header("Authorization", tokenOf(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.route == 'GET /todos/{todoId}')].repository")
+                        .value("TodoRepository.findByIdWithUser"))
+                .andExpect(jsonPath("$[?(@.route == 'GET /todos/{todoId}')].parameterTypes")
+                        .value("[Long]"));
+    }
+}
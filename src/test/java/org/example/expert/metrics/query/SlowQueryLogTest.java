@@ -0,0 +1,59 @@
+package org.example.expert.metrics.query;
+
+import org.example.expert.metrics.dto.SlowQueryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(2, 10);
+
+    @Test
+    @DisplayName("threshold 보다 빠른 statement 는 기록하지 않는다")
+    void ignoresFastStatements() {
+        // when
+        slowQueryLog.offer(TimeUnit.MILLISECONDS.toNanos(5), "select 1", "[]", "GET /todos", null);
+
+        // then
+        assertTrue(slowQueryLog.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 SQL 과 파라미터 타입은 하나로 묶어 횟수와 최대 시간을 기록")
+    void groupsSameShape() {
+        // when
+        slowQueryLog.offer(TimeUnit.MILLISECONDS.toNanos(20), "select * from todos where id=?", "[Long]", "GET /todos/{todoId}", "TodoRepository.findByIdWithUser");
+        slowQueryLog.offer(TimeUnit.MILLISECONDS.toNanos(40), "select * from todos where id=?", "[Long]", "GET /todos/{todoId}", "TodoRepository.findByIdWithUser");
+
+        // then
+        List<SlowQueryResponse> snapshot = slowQueryLog.snapshot();
+        assertEquals(1, snapshot.size());
+        assertEquals(2, snapshot.get(0).getCount());
+        assertEquals(40.0, snapshot.get(0).getMaxMs(), 0.001);
+        assertEquals(30.0, snapshot.get(0).getMeanMs(), 0.001);
+        assertEquals("[Long]", snapshot.get(0).getParameterTypes());
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 빠른 항목을 내보내고, 더 빠른 statement 는 버린다")
+    void keepsSlowest() {
+        // given
+        slowQueryLog.offer(TimeUnit.MILLISECONDS.toNanos(30), "a", "[]", "GET /a", null);
+        slowQueryLog.offer(TimeUnit.MILLISECONDS.toNanos(50), "b", "[]", "GET /b", null);
+
+        // when
+        slowQueryLog.offer(TimeUnit.MILLISECONDS.toNanos(40), "c", "[]", "GET /c", null);
+        slowQueryLog.offer(TimeUnit.MILLISECONDS.toNanos(15), "d", "[]", "GET /d", null);
+
+        // then
+        List<SlowQueryResponse> snapshot = slowQueryLog.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals("b", snapshot.get(0).getSql());
+        assertEquals("c", snapshot.get(1).getSql());
+    }
+}
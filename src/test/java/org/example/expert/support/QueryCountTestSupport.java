@@ -0,0 +1,70 @@
+package org.example.expert.support;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 컨트롤러 엔드포인트별 쿼리 수를 H2 위에서 검증하기 위한 공통 설정.
+ * N+1 이 다시 생기거나 fetch join 이 빠지면 쿼리 수가 달라져 테스트가 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryCountingDataSourceConfig.class)
+public abstract class QueryCountTestSupport {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired
+    protected MockMvc mockMvc;
+    @Autowired
+    protected UserRepository userRepository;
+    @Autowired
+    protected TodoRepository todoRepository;
+    @Autowired
+    protected JwtUtil jwtUtil;
+    @Autowired
+    protected PasswordEncoder passwordEncoder;
+    @MockBean
+    protected WeatherClient weatherClient;
+
+    /**
+     * 요청 하나를 실행하고, 그 동안 실행된 statement 수가 expected 와 같은지 확인한다.
+     */
+    protected ResultActions assertQueryCount(int expected, RequestBuilder request) throws Exception {
+        QueryCounter.reset();
+        ResultActions result = mockMvc.perform(request);
+        assertEquals(expected, QueryCounter.count(), "실행된 SQL 수");
+        return result;
+    }
+
+    protected User saveUser(UserRole userRole) {
+        String email = "user" + sequence.incrementAndGet() + "-" + System.nanoTime() + "@example.com";
+        return userRepository.save(new User(email, passwordEncoder.encode("Password1"), userRole));
+    }
+
+    protected Todo saveTodo(User user) {
+        return todoRepository.save(new Todo("title", "contents", "Sunny", user));
+    }
+
+    protected String tokenOf(User user) {
+        return jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getRoleVersion());
+    }
+}
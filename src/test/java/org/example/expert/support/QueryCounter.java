@@ -0,0 +1,25 @@
+package org.example.expert.support;
+
+/**
+ * 현재 스레드에서 실행된 JDBC statement 수를 센다.
+ * MockMvc 요청은 테스트 스레드에서 처리되므로, 스케줄러나 audit writer 같은 백그라운드 작업의 쿼리는 포함되지 않는다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+}